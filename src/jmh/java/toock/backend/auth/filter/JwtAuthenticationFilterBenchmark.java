@@ -0,0 +1,74 @@
+package toock.backend.auth.filter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import toock.backend.auth.util.JwtUtil;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 키/파서를 새로 만들어 토큰을 세 번 파싱하던 기존 방식과, 캐시를 거치는 JwtAuthenticationFilter 한 번 통과 비용을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-jwt-secret-key-that-is-at-least-32-bytes";
+
+    private String token;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        token = jwtUtil.generateToken("benchmark@example.com", 1L);
+        filter = new JwtAuthenticationFilter(jwtUtil);
+        request = new MockHttpServletRequest("GET", "/users/statistics");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public void legacyParseThreeTimes(Blackhole blackhole) {
+        for (int i = 0; i < 3; i++) {
+            Claims claims = Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            blackhole.consume(claims);
+        }
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) throws ServletException, IOException {
+        // OncePerRequestFilter가 같은 요청을 건너뛰지 않도록 매번 속성을 지움
+        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
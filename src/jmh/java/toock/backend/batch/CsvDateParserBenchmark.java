@@ -0,0 +1,66 @@
+package toock.backend.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 행마다 포매터를 만들던 기존 작성일 파싱과 CsvDateParser의 처리량을 비교합니다.
+ * 입력은 실제 덤프처럼 수천 개의 서로 다른 날짜에 약간의 잘못된 값이 섞인 배열입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvDateParserBenchmark {
+
+    private static final int VALUES = 100_000;
+
+    private String[] values;
+    private CsvDateParser csvDateParser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        csvDateParser = new CsvDateParser(new SimpleMeterRegistry());
+        values = new String[VALUES];
+        LocalDate start = LocalDate.of(2015, 1, 1);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy. MM. dd");
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = i % 100 == 0
+                    ? "알 수 없음"
+                    : start.plusDays(ThreadLocalRandom.current().nextInt(3650)).format(formatter);
+        }
+    }
+
+    @Benchmark
+    public void formatterPerRow(Blackhole blackhole) {
+        for (String value : values) {
+            try {
+                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy. MM. dd");
+                blackhole.consume(LocalDate.parse(value, formatter).atStartOfDay().atOffset(ZoneOffset.UTC));
+            } catch (DateTimeParseException e) {
+                blackhole.consume(null);
+            }
+        }
+    }
+
+    @Benchmark
+    public void csvDateParser(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(csvDateParser.parsePostedAt(value));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package toock.backend.batch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 합성 CSV를 OpenCSV 빈 바인딩과 메모리 매핑 파서로 끝까지 읽는 시간을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvParserBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    private Path csvFile;
+    private final CompanyReviewCsvParser openCsvParser = new OpenCsvReviewParser();
+    private final CompanyReviewCsvParser mappedParser = new MappedCsvReviewParser();
+
+    @Setup(Level.Trial)
+    public void createCsv() throws IOException {
+        csvFile = Files.createTempFile("benchmark_reviews", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            writer.write("Job Field,Job Level,Date Posted,Interview Date,Hiring Method,Interview Difficulty,"
+                    + "Summary/Review,Interview Path,Interview Questions,Interview Answer/Feeling,Announcement Period,"
+                    + "Interview Result,Interview Experience\n");
+            for (int i = 0; i < rows; i++) {
+                writer.write("개발,신입,2024. 01. 15,2023. 12,대면,보통,\"면접 후기 요약 " + i + ", 분위기는 편안했음\",온라인,"
+                        + "\"1. 자기소개를 해주세요.\n2. 가장 어려웠던 프로젝트는 \"\"무엇\"\"이었나요?\",\"솔직하게 답변함\","
+                        + "1주,합격,긍정\n");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCsv() throws IOException {
+        Files.deleteIfExists(csvFile);
+    }
+
+    @Benchmark
+    public void openCsv(Blackhole blackhole) throws IOException {
+        consume(openCsvParser, csvFile.toFile(), blackhole);
+    }
+
+    @Benchmark
+    public void mapped(Blackhole blackhole) throws IOException {
+        consume(mappedParser, csvFile.toFile(), blackhole);
+    }
+
+    private static void consume(CompanyReviewCsvParser parser, File file, Blackhole blackhole) throws IOException {
+        try (CompanyReviewCsvParser.Rows iterator = parser.open(file)) {
+            while (iterator.hasNext()) {
+                blackhole.consume(iterator.next());
+            }
+        }
+    }
+}
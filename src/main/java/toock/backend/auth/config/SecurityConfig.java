@@ -1,5 +1,6 @@
 package toock.backend.auth.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -42,6 +43,10 @@ public class SecurityConfig {
                         .requestMatchers("/oauth2/**").permitAll()
                         .requestMatchers("/login/oauth2/**").permitAll()
                         .requestMatchers("/test/**").permitAll()
+                        .requestMatchers("/ws/**").permitAll() // JwtHandshakeInterceptor에서 인증
+                        // Mono를 반환하는 엔드포인트는 응답을 ASYNC 디스패치로 보내는데, JWT 필터는 요청당 한 번만 실행되어
+                        // 그 디스패치에는 인증 정보가 없음. 인증은 최초 요청에서 이미 끝났으므로 ASYNC/ERROR 디스패치는 허용
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2
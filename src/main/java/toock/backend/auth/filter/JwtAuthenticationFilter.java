@@ -28,22 +28,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String token = extractTokenFromRequest(request);
-        
-        if (StringUtils.hasText(token) && jwtUtil.validateToken(token)) {
-            try {
-                String email = jwtUtil.extractEmail(token);
-                Long memberId = jwtUtil.extractMemberId(token);
-                
-                UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(memberId, null, Collections.emptyList());
-                
+
+        // 토큰은 요청당 한 번만 검증하며, 최근 검증한 토큰은 JwtUtil 캐시에서 바로 꺼냄
+        if (StringUtils.hasText(token)) {
+            jwtUtil.verify(token).ifPresent(verified -> {
+                UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(verified.memberId(), null, Collections.emptyList());
+
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("JWT 인증 성공: ID :{}, email :{}", memberId,email);
-            } catch (Exception e) {
-                log.error("JWT 토큰 처리 중 오류 발생", e);
-            }
+                log.debug("JWT 인증 성공: ID :{}, email :{}", verified.memberId(), verified.email());
+            });
         }
-        
+
         filterChain.doFilter(request, response);
     }
     
@@ -0,0 +1,58 @@
+package toock.backend.auth.filter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+import toock.backend.auth.util.JwtUtil;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 웹소켓 핸드셰이크에서 JWT를 검증하고 회원 ID를 세션 속성에 넣습니다.
+ * 브라우저 WebSocket API는 헤더를 지정할 수 없으므로 Authorization 헤더가 없으면 token 쿼리 파라미터를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String MEMBER_ID_ATTRIBUTE = "memberId";
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Optional<JwtUtil.VerifiedToken> verified = Optional.ofNullable(extractToken(request)).flatMap(jwtUtil::verify);
+        if (verified.isEmpty()) {
+            log.debug("웹소켓 인증 실패: {}", request.getURI().getPath());
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        attributes.put(MEMBER_ID_ATTRIBUTE, verified.get().memberId());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private String extractToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        String token = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("token");
+        return StringUtils.hasText(token) ? token : null;
+    }
+}
@@ -1,26 +1,81 @@
 package toock.backend.auth.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.WeakKeyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 
+/**
+ * JWT 발급과 검증을 담당합니다.
+ * 서명 키와 파서는 시작 시 한 번만 만들고, 검증에 성공한 토큰은 만료 시각까지 캐싱해 같은 토큰의 반복 요청은 서명 검증 없이 처리합니다.
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret:defaultSecretKeyForDevelopment}")
     private String secret;
 
     @Value("${jwt.expiration:86400000}") // 24시간
     private long expiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // 검증 결과를 기억할 최근 토큰 수
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize = 10000;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        try {
+            signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+            parser = Jwts.parser().verifyWith(signingKey).build();
+        } catch (WeakKeyException e) {
+            // 키가 짧으면 토큰을 발급/검증할 때 실패하도록 둠 (기존 동작과 동일)
+            log.warn("JWT 서명 키를 만들 수 없습니다: {}", e.getMessage());
+        }
+
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), verified.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerifiedTokens");
     }
 
     public String generateToken(String email, Long memberId) {
@@ -32,41 +87,65 @@ public class JwtUtil {
                 .claim("memberId", memberId)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(requireSigningKey())
                 .compact();
     }
 
     public Claims extractClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return requireParser().parseSignedClaims(token).getPayload();
         } catch (JwtException e) {
             log.error("JWT 토큰 파싱 실패: {}", e.getMessage());
             throw new RuntimeException("유효하지 않은 토큰입니다.");
         }
     }
 
-    public String extractEmail(String token) {
-        return extractClaims(token).getSubject();
-    }
+    /**
+     * 토큰을 검증하고 회원 정보를 돌려줍니다. 서명이나 만료가 잘못된 토큰이면 빈 값을 반환합니다.
+     * 최근에 검증한 토큰은 만료 전까지 캐시에서 바로 돌려줍니다.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return Optional.of(cached);
+        }
 
-    public Long extractMemberId(String token) {
-        return extractClaims(token).get("memberId", Long.class);
-    }
+        if (parser == null) {
+            log.error("JWT 토큰 검증 실패: 서명 키가 설정되지 않았습니다.");
+            return Optional.empty();
+        }
 
-    public boolean validateToken(String token) {
+        Claims claims;
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            claims = parser.parseSignedClaims(token).getPayload();
         } catch (JwtException e) {
             log.error("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
+            return Optional.empty();
+        }
+
+        VerifiedToken verified = new VerifiedToken(claims.get("memberId", Long.class), claims.getSubject(),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+        // 만료 시각이 없는 토큰은 캐시 만료를 정할 수 없으므로 캐싱하지 않음
+        if (verified.expiresAt() != null) {
+            verifiedTokens.put(token, verified);
+        }
+        return Optional.of(verified);
+    }
+
+    private SecretKey requireSigningKey() {
+        if (signingKey == null) {
+            throw new IllegalStateException("JWT 서명 키가 설정되지 않았습니다.");
         }
+        return signingKey;
+    }
+
+    private JwtParser requireParser() {
+        if (parser == null) {
+            throw new IllegalStateException("JWT 서명 키가 설정되지 않았습니다.");
+        }
+        return parser;
+    }
+
+    public record VerifiedToken(Long memberId, String email, Instant expiresAt) {
     }
 }
@@ -1,121 +1,261 @@
 package toock.backend.batch;
 
-import com.opencsv.bean.CsvToBeanBuilder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import toock.backend.batch.domain.CsvLoadCheckpoint;
 import toock.backend.batch.dto.CompanyReviewCsvDto;
+import toock.backend.batch.repository.CsvLoadCheckpointRepository;
 import toock.backend.company.domain.Company;
 import toock.backend.company.domain.CompanyReview;
 import toock.backend.company.repository.CompanyRepository;
-import toock.backend.company.repository.CompanyReviewRepository;
+import toock.backend.company.service.CompanyReviewContextCache;
+import toock.backend.company.service.CompanyReviewSampler;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
-import java.time.YearMonth;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CompanyReviewBatchService {
 
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
     private final CompanyRepository companyRepository;
-    private final CompanyReviewRepository companyReviewRepository;
-
-    public void loadAllCsvsInDirectory(String directoryPath) {
-        File folder = new File(directoryPath);
-        File[] fileList = folder.listFiles();
-
-        if (fileList != null) {
-            for (File file : fileList) {
-                if (file.isFile() && file.getName().toLowerCase().endsWith(".csv")) {
-                    System.out.println("✅ 처리 시작: " + file.getName());
-                    try {
-                        loadCsvData(file);
-                    } catch (Exception e) {
-                        System.err.println("❌ 처리 실패: " + file.getName());
-                        e.printStackTrace();
-                    }
-                }
-            }
+    private final CompanyReviewJdbcWriter companyReviewJdbcWriter;
+    private final CompanyReviewSampler companyReviewSampler;
+    private final CompanyReviewContextCache companyReviewContextCache;
+    private final CsvLoadCheckpointRepository checkpointRepository;
+    private final CompanyReviewCsvParser csvParser;
+    private final CsvDateParser csvDateParser;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Company> companies = new ConcurrentHashMap<>();
+
+    // 한 트랜잭션으로 커밋할 행 수
+    @Value("${batch.company-review.chunk-size:10000}")
+    private int chunkSize = 10000;
+
+    /**
+     * 디렉터리의 CSV 파일들을 최대 parallelism개 스레드에서 동시에 적재합니다.
+     * 파일 하나는 한 스레드가 처음부터 끝까지 처리하며, 실패한 파일은 다른 파일 적재를 막지 않습니다.
+     * @return 이번 실행에서 저장한 전체 행 수
+     */
+    public long loadAllCsvsInDirectory(String directoryPath, int parallelism) {
+        File[] fileList = new File(directoryPath).listFiles(file ->
+                file.isFile() && file.getName().toLowerCase().endsWith(".csv"));
+        if (fileList == null || fileList.length == 0) {
+            log.warn("적재할 CSV 파일이 없습니다: {}", directoryPath);
+            return 0;
         }
+
+        int workers = Math.max(1, Math.min(parallelism, fileList.length));
+        ExecutorService executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("csv-loader-"));
+        AtomicLong totalRows = new AtomicLong();
+        long startedAt = System.nanoTime();
+        try {
+            CompletableFuture.allOf(Arrays.stream(fileList)
+                    .map(file -> CompletableFuture.runAsync(() -> {
+                        log.info("CSV 적재 시작: {}", file.getName());
+                        try {
+                            totalRows.addAndGet(loadCsvData(file));
+                        } catch (Exception e) {
+                            log.error("CSV 적재 실패: {}", file.getName(), e);
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
+
+        double elapsedSeconds = elapsedSeconds(startedAt);
+        log.info("전체 적재 완료: 파일 {}개, {}개 행, 워커 {}개, {}ms ({} rows/sec)", fileList.length, totalRows.get(), workers,
+                Math.round(elapsedSeconds * 1000), Math.round(totalRows.get() / elapsedSeconds));
+
+        // 새로 적재된 후기가 샘플링 대상에 포함되도록 id 목록과 프롬프트 캐시를 다시 읽게 함
+        companyReviewSampler.invalidateAll();
+        companyReviewContextCache.invalidateAll();
+        return totalRows.get();
     }
 
-    @Transactional
-    public void loadCsvData(File csvFile) throws Exception {
+    /**
+     * CSV 파일 하나를 스트리밍으로 읽어 청크 단위로 커밋합니다.
+     * 메모리에는 한 청크만 올라가며, 청크마다 체크포인트를 함께 커밋하므로 중단된 파일은 다음 실행에서 이어서 적재합니다.
+     * 크기와 체크섬이 지난 적재 때와 같은 파일은 건너뛰고, 바뀐 파일은 새 세대로 다시 읽되 이미 저장된 행(같은 내용 해시)은 건너뜁니다.
+     * 다시 읽기가 끝나면 새 세대에 없던 후기(수정 전 버전, 파일에서 빠진 후기)와 이 파일의 관계를 끊고,
+     * 다른 파일도 포함하지 않는 후기만 지웁니다.
+     * @return 이번 실행에서 새로 저장한 행 수
+     */
+    public int loadCsvData(File csvFile) throws Exception {
+        long fileSize = csvFile.length();
+        String checksum = sha256(csvFile);
+        CsvLoadCheckpoint checkpoint = transactionTemplate.execute(status -> {
+            CsvLoadCheckpoint existing = checkpointRepository.findByFileName(csvFile.getName()).orElse(null);
+            if (existing == null) {
+                return checkpointRepository.save(CsvLoadCheckpoint.start(csvFile.getName(), fileSize, checksum));
+            }
+            if (!existing.isUnchanged(fileSize, checksum)) {
+                existing.restart(fileSize, checksum);
+            }
+            return existing;
+        });
+
+        if (checkpoint.isCompleted()) {
+            log.info("변경 없음, 건너뜀: {}", csvFile.getName());
+            return 0;
+        }
+        long alreadyCommitted = checkpoint.getRowsCommitted();
+        if (alreadyCommitted > 0) {
+            log.info("{}: {}개 행 이후부터 이어서 적재", csvFile.getName(), alreadyCommitted);
+        }
+
         String companyName = csvFile.getName().split("_")[0];
+        Company company = findOrCreateCompany(companyName);
 
-        Company company = companyRepository.findByName(companyName)
-                .orElseGet(() -> companyRepository.save(
-                        Company.builder()
-                                .name(companyName)
-                                .code(UUID.randomUUID().toString())
-                                .build()
-                ));
-
-        try (InputStreamReader reader = new InputStreamReader(new FileInputStream(csvFile), StandardCharsets.UTF_8)) {
-            List<CompanyReviewCsvDto> dtos = new CsvToBeanBuilder<CompanyReviewCsvDto>(reader)
-                    .withType(CompanyReviewCsvDto.class)
-                    .withIgnoreLeadingWhiteSpace(true)
-                    .build()
-                    .parse();
-
-            for (CompanyReviewCsvDto dto : dtos) {
-                CompanyReview review = CompanyReview.builder()
-                        .company(company)
-                        .field(dto.getField())
-                        .level(dto.getLevel())
-                        .createdAt(parseDateTime(dto.getCreatedAt()))
-                        .interviewedAt(parseDate(dto.getInterviewedAt()))
-                        .interviewFormat(dto.getInterviewFormat())
-                        .difficulty(dto.getDifficulty())
-                        .summary(dto.getSummary())
-                        .interviewPath(dto.getInterviewPath())
-                        .interviewQuestions(dto.getInterviewQuestions())
-                        .interviewAnswer(dto.getInterviewAnswer())
-                        .announcementPeriod(dto.getAnnouncementPeriod())
-                        .interviewResult(dto.getInterviewResult())
-                        .interviewExperience(dto.getInterviewExperience())
-                        .build();
-
-                companyReviewRepository.save(review);
+        long startedAt = System.nanoTime();
+        long processed = 0;
+        int saved = 0;
+        try (CompanyReviewCsvParser.Rows rows = csvParser.open(csvFile)) {
+            // 이전 실행에서 커밋된 행은 건너뜀 (따옴표 안 줄바꿈이 있을 수 있어 줄 단위가 아닌 행 단위로 건너뜀)
+            for (long skipped = 0; skipped < alreadyCommitted && rows.hasNext(); skipped++) {
+                rows.next();
             }
-            System.out.println("✅ 처리 완료: " + csvFile.getName() + ", " + dtos.size() + "개 행 저장");
+
+            List<CompanyReview> chunk = new ArrayList<>(chunkSize);
+            while (rows.hasNext()) {
+                chunk.add(toCompanyReview(company, rows.next()));
+                if (chunk.size() >= chunkSize) {
+                    processed += chunk.size();
+                    saved += commitChunk(checkpoint, company.getId(), chunk);
+                    chunk.clear();
+                    log.info("{}: {}개 행 처리, {}개 신규 저장 ({} rows/sec)", csvFile.getName(),
+                            alreadyCommitted + processed, saved, Math.round(processed / elapsedSeconds(startedAt)));
+                }
+            }
+            processed += chunk.size();
+            saved += commitChunk(checkpoint, company.getId(), chunk);
+        }
+
+        Integer superseded = transactionTemplate.execute(status -> {
+            checkpointRepository.findById(checkpoint.getId()).ifPresent(CsvLoadCheckpoint::complete);
+            return companyReviewJdbcWriter.deleteSuperseded(company.getId(), checkpoint.getFileName(), checkpoint.getGeneration());
+        });
+        if (superseded != null && superseded > 0) {
+            log.info("{}: 바뀐 파일에 없는 이전 후기 {}건을 지웠습니다.", csvFile.getName(), superseded);
         }
+
+        double elapsedSeconds = elapsedSeconds(startedAt);
+        log.info("CSV 적재 완료: {}, {}개 행 중 {}개 신규 저장 ({}ms, {} rows/sec)", csvFile.getName(), processed, saved,
+                Math.round(elapsedSeconds * 1000), Math.round(processed / elapsedSeconds));
+        return saved;
     }
 
-    private OffsetDateTime parseDateTime(String dateTimeStr) {
-        if (dateTimeStr == null || dateTimeStr.isBlank()) {
-            return null;
+    // 이미 저장된 내용 해시를 걸러낸 뒤 청크 INSERT와 체크포인트 갱신을 한 트랜잭션으로 커밋하고, 새로 저장한 행 수를 반환
+    private int commitChunk(CsvLoadCheckpoint checkpoint, Long companyId, List<CompanyReview> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
         }
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy. MM. dd");
-            LocalDate date = LocalDate.parse(dateTimeStr, formatter);
-            return date.atStartOfDay().atOffset(ZoneOffset.UTC);
-        } catch (DateTimeParseException e) {
-            System.err.println("잘못된 날짜 시간 형식: " + dateTimeStr);
-            return null;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return insertNewReviews(checkpoint, companyId, chunk);
+            } catch (DuplicateKeyException e) {
+                // 같은 회사의 다른 파일이 같은 후기를 동시에 저장한 경우, 다시 걸러서 재시도
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+            }
         }
     }
 
-    private LocalDate parseDate(String dateStr) {
-        if (dateStr == null || dateStr.isBlank()) {
-            return null;
-        }
-        try {
-            YearMonth ym = YearMonth.parse(dateStr, DateTimeFormatter.ofPattern("yyyy/MM"));
-            return ym.atDay(1);
-        } catch (DateTimeParseException e) {
-            System.err.println("잘못된 날짜 형식: " + dateStr);
-            return null;
+    // 없는 행만 저장하고, 청크의 모든 후기를 이 파일의 이번 세대에서 본 후기로 기록
+    private int insertNewReviews(CsvLoadCheckpoint checkpoint, Long companyId, List<CompanyReview> chunk) {
+        return transactionTemplate.execute(status -> {
+            Map<String, CompanyReview> byHash = new LinkedHashMap<>();
+            chunk.forEach(review -> byHash.putIfAbsent(review.getContentHash(), review));
+            List<String> chunkHashes = new ArrayList<>(byHash.keySet());
+            companyReviewJdbcWriter.findExistingHashes(companyId, chunkHashes).forEach(byHash::remove);
+
+            List<CompanyReview> newReviews = new ArrayList<>(byHash.values());
+            companyReviewJdbcWriter.write(newReviews);
+            companyReviewJdbcWriter.linkSource(companyId, chunkHashes, checkpoint.getFileName(), checkpoint.getGeneration());
+            checkpointRepository.findById(checkpoint.getId())
+                    .orElseThrow(() -> new IllegalStateException("적재 체크포인트를 찾을 수 없습니다. ID: " + checkpoint.getId()))
+                    .advance(chunk.size());
+            return newReviews.size();
+        });
+    }
+
+    // 같은 회사의 파일 여러 개가 동시에 적재될 때 회사가 중복 생성되지 않도록 회사별로 한 번만 조회/생성
+    private Company findOrCreateCompany(String companyName) {
+        return companies.computeIfAbsent(companyName, name -> transactionTemplate.execute(status ->
+                companyRepository.findByName(name)
+                        .orElseGet(() -> companyRepository.save(
+                                Company.builder()
+                                        .name(name)
+                                        .code(UUID.randomUUID().toString())
+                                        .build()
+                        ))));
+    }
+
+    private CompanyReview toCompanyReview(Company company, CompanyReviewCsvDto dto) {
+        OffsetDateTime createdAt = csvDateParser.parsePostedAt(dto.getCreatedAt());
+        LocalDate interviewedAt = csvDateParser.parseInterviewedAt(dto.getInterviewedAt());
+        return CompanyReview.builder()
+                .company(company)
+                .field(dto.getField())
+                .level(dto.getLevel())
+                .createdAt(createdAt)
+                .interviewedAt(interviewedAt)
+                .interviewFormat(dto.getInterviewFormat())
+                .difficulty(dto.getDifficulty())
+                .summary(dto.getSummary())
+                .interviewPath(dto.getInterviewPath())
+                .interviewQuestions(dto.getInterviewQuestions())
+                .interviewAnswer(dto.getInterviewAnswer())
+                .announcementPeriod(dto.getAnnouncementPeriod())
+                .interviewResult(dto.getInterviewResult())
+                .interviewExperience(dto.getInterviewExperience())
+                .contentHash(CompanyReviewContentHash.of(dto.getField(), dto.getLevel(),
+                        createdAt != null ? createdAt.toInstant() : null, interviewedAt, dto.getInterviewFormat(),
+                        dto.getDifficulty(), dto.getSummary(), dto.getInterviewPath(), dto.getInterviewQuestions(),
+                        dto.getInterviewAnswer(), dto.getAnnouncementPeriod(), dto.getInterviewResult(),
+                        dto.getInterviewExperience()))
+                .build();
+    }
+
+    private static String sha256(File file) throws IOException {
+        MessageDigest digest = CompanyReviewContentHash.sha256Digest();
+        try (DigestInputStream in = new DigestInputStream(new FileInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
         }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static double elapsedSeconds(long startedAt) {
+        return Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
     }
-}
\ No newline at end of file
+}
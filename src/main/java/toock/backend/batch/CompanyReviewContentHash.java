@@ -0,0 +1,44 @@
+package toock.backend.batch;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 면접 후기의 내용 해시를 계산합니다.
+ * CSV 원본 문자열이 아니라 저장되는 값(파싱된 날짜 포함)으로 계산하므로, 해시가 없는 기존 행도 DB 값만으로 같은 해시를 만들 수 있습니다.
+ */
+final class CompanyReviewContentHash {
+
+    // 필드 구분자와 null 표시는 본문에 나오지 않는 제어 문자를 사용
+    private static final String NULL_MARK = "\u0000";
+    private static final String SEPARATOR = "\u001F";
+
+    private CompanyReviewContentHash() {
+    }
+
+    static String of(String field, String level, Instant createdAt, LocalDate interviewedAt, String interviewFormat,
+                     String difficulty, String summary, String interviewPath, String interviewQuestions,
+                     String interviewAnswer, String announcementPeriod, String interviewResult, String interviewExperience) {
+        String joined = Stream.of(field, level, Objects.toString(createdAt, null), Objects.toString(interviewedAt, null),
+                        interviewFormat, difficulty, summary, interviewPath, interviewQuestions, interviewAnswer,
+                        announcementPeriod, interviewResult, interviewExperience)
+                .map(value -> value != null ? value : NULL_MARK)
+                .collect(Collectors.joining(SEPARATOR));
+        return HexFormat.of().formatHex(sha256Digest().digest(joined.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package toock.backend.batch;
+
+import toock.backend.batch.dto.CompanyReviewCsvDto;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 면접 후기 CSV를 한 행씩 읽어 {@link CompanyReviewCsvDto}로 돌려줍니다.
+ * 구현체는 batch.company-review.parser 설정으로 선택합니다 (opencsv, mapped).
+ */
+public interface CompanyReviewCsvParser {
+
+    Rows open(File csvFile) throws IOException;
+
+    interface Rows extends Iterator<CompanyReviewCsvDto>, Closeable {
+    }
+}
@@ -0,0 +1,115 @@
+package toock.backend.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * content_hash가 비어 있는 후기(해시 도입 이전에 적재했거나 해시 정의가 바뀐 행)에 저장된 값으로 해시를 채웁니다.
+ * 같은 회사에 같은 내용의 후기가 이미 있으면 중복 행으로 보고 먼저 저장된 행만 남깁니다.
+ * csv-loader 프로필에서 CSV 적재 전에 실행하며, 채울 행이 없으면 조회 한 번으로 끝납니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyReviewHashBackfill {
+
+    private static final String SELECT_SQL = """
+            SELECT id, company_id, field, level, created_at, interviewed_at, interview_format, difficulty, summary,
+                   interview_path, interview_questions, interview_answer, announcement_period, interview_result,
+                   interview_experience
+            FROM company_review
+            WHERE content_hash IS NULL
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CompanyReviewJdbcWriter companyReviewJdbcWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${batch.company-review.batch-size:1000}")
+    private int batchSize = 1000;
+
+    /**
+     * @return 해시를 채운 행 수
+     */
+    public long backfill() {
+        long filled = 0;
+        long removed = 0;
+        while (true) {
+            BatchResult result = transactionTemplate.execute(status -> backfillBatch());
+            if (result == null || result.filled() + result.removed() == 0) {
+                break;
+            }
+            filled += result.filled();
+            removed += result.removed();
+        }
+        if (filled + removed > 0) {
+            log.info("후기 내용 해시 채움: {}건, 중복 후기 {}건 삭제", filled, removed);
+        }
+        return filled;
+    }
+
+    // 한 배치를 채움. 같은 배치 안이나 이미 해시가 있는 행과 내용이 같으면 나중에 저장된 행을 지움
+    private BatchResult backfillBatch() {
+        List<HashedRow> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> hashedRow(rs), batchSize);
+
+        Map<Long, Map<String, Long>> firstIdByHash = new LinkedHashMap<>();
+        List<Long> duplicates = new ArrayList<>();
+        for (HashedRow row : rows) {
+            Long first = firstIdByHash.computeIfAbsent(row.companyId(), companyId -> new LinkedHashMap<>())
+                    .putIfAbsent(row.contentHash(), row.id());
+            if (first != null) {
+                duplicates.add(row.id());
+            }
+        }
+
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        firstIdByHash.forEach((companyId, idByHash) -> {
+            Set<String> existing = companyReviewJdbcWriter.findExistingHashes(companyId, new ArrayList<>(idByHash.keySet()));
+            idByHash.forEach((contentHash, id) -> {
+                if (existing.contains(contentHash)) {
+                    duplicates.add(id);
+                } else {
+                    updates.add(new Object[]{contentHash, id});
+                }
+            });
+        });
+
+        jdbcTemplate.batchUpdate("UPDATE company_review SET content_hash = ? WHERE id = ?", updates);
+        jdbcTemplate.batchUpdate("DELETE FROM company_review WHERE id = ?",
+                duplicates.stream().map(id -> new Object[]{id}).toList());
+        return new BatchResult(updates.size(), duplicates.size());
+    }
+
+    private static HashedRow hashedRow(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Date interviewedAt = rs.getDate("interviewed_at");
+        String contentHash = CompanyReviewContentHash.of(rs.getString("field"), rs.getString("level"),
+                createdAt != null ? createdAt.toInstant() : null, interviewedAt != null ? interviewedAt.toLocalDate() : null,
+                rs.getString("interview_format"), rs.getString("difficulty"), rs.getString("summary"),
+                rs.getString("interview_path"), rs.getString("interview_questions"), rs.getString("interview_answer"),
+                rs.getString("announcement_period"), rs.getString("interview_result"), rs.getString("interview_experience"));
+        return new HashedRow(rs.getLong("id"), rs.getLong("company_id"), contentHash);
+    }
+
+    private record HashedRow(long id, Long companyId, String contentHash) {
+    }
+
+    private record BatchResult(int filled, int removed) {
+    }
+}
@@ -0,0 +1,160 @@
+package toock.backend.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import toock.backend.company.domain.CompanyReview;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 면접 후기를 JDBC 배치 INSERT로 저장합니다.
+ * CompanyReview는 IDENTITY 키라 JPA save로는 배치가 동작하지 않아 행마다 왕복이 발생하므로, CSV 적재에서는 이 경로를 사용합니다.
+ * 현재 트랜잭션에 참여하므로 호출하는 쪽의 트랜잭션 경계가 그대로 적용됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompanyReviewJdbcWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO company_review (company_id, field, level, created_at, interviewed_at, interview_format, difficulty,
+                                        summary, interview_path, interview_questions, interview_answer, announcement_period,
+                                        interview_result, interview_experience, content_hash)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_SOURCE_SQL = """
+            INSERT INTO company_review_source (source_file, company_id, content_hash, load_generation)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    // IN 절 하나에 넣을 최대 해시 수
+    private static final int HASH_LOOKUP_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${batch.company-review.batch-size:1000}")
+    private int batchSize = 1000;
+
+    public void write(List<CompanyReview> reviews) {
+        if (reviews.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, reviews, batchSize, this::bind);
+    }
+
+    /**
+     * 주어진 내용 해시 중 해당 회사에 이미 저장된 것만 반환합니다.
+     */
+    public Set<String> findExistingHashes(Long companyId, List<String> contentHashes) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < contentHashes.size(); from += HASH_LOOKUP_SIZE) {
+            List<String> slice = contentHashes.subList(from, Math.min(from + HASH_LOOKUP_SIZE, contentHashes.size()));
+            existing.addAll(jdbcTemplate.queryForList(
+                    "SELECT content_hash FROM company_review WHERE company_id = ? AND content_hash IN (" + placeholders(slice) + ")",
+                    String.class, args(companyId, slice)));
+        }
+        return existing;
+    }
+
+    /**
+     * 주어진 내용 해시의 후기를 sourceFile의 generation 세대에서 본 후기로 기록합니다.
+     * 파일 하나는 한 스레드에서만 적재하므로 같은 (파일, 회사, 해시) 관계를 동시에 기록하는 일은 없습니다.
+     */
+    public void linkSource(Long companyId, List<String> contentHashes, String sourceFile, int generation) {
+        for (int from = 0; from < contentHashes.size(); from += HASH_LOOKUP_SIZE) {
+            List<String> slice = contentHashes.subList(from, Math.min(from + HASH_LOOKUP_SIZE, contentHashes.size()));
+            List<Object> args = new ArrayList<>(slice.size() + 2);
+            args.add(sourceFile);
+            args.addAll(List.of(args(companyId, slice)));
+            Set<String> linked = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT content_hash FROM company_review_source WHERE source_file = ? AND company_id = ? "
+                            + "AND content_hash IN (" + placeholders(slice) + ")", String.class, args.toArray()));
+
+            args.add(0, generation);
+            jdbcTemplate.update("UPDATE company_review_source SET load_generation = ? WHERE source_file = ? AND company_id = ? "
+                    + "AND content_hash IN (" + placeholders(slice) + ")", args.toArray());
+            List<String> unlinked = slice.stream().filter(contentHash -> !linked.contains(contentHash)).toList();
+            jdbcTemplate.batchUpdate(INSERT_SOURCE_SQL, unlinked, batchSize, (ps, contentHash) -> {
+                ps.setString(1, sourceFile);
+                ps.setLong(2, companyId);
+                ps.setString(3, contentHash);
+                ps.setInt(4, generation);
+            });
+        }
+    }
+
+    /**
+     * sourceFile의 generation 세대에서 보이지 않은 후기(수정 전 버전이나 파일에서 빠진 후기)와 이 파일의 관계를 끊고,
+     * 그 중 다른 파일도 더 이상 참조하지 않는 후기를 지워 지운 행 수를 반환합니다.
+     * 출처가 기록되기 전에 적재된 후기는 관계가 없으므로 지우지 않습니다.
+     */
+    public int deleteSuperseded(Long companyId, String sourceFile, int generation) {
+        List<String> staleHashes = jdbcTemplate.queryForList(
+                "SELECT content_hash FROM company_review_source WHERE source_file = ? AND load_generation < ?",
+                String.class, sourceFile, generation);
+        jdbcTemplate.update("DELETE FROM company_review_source WHERE source_file = ? AND load_generation < ?", sourceFile, generation);
+
+        int deleted = 0;
+        for (int from = 0; from < staleHashes.size(); from += HASH_LOOKUP_SIZE) {
+            List<String> slice = staleHashes.subList(from, Math.min(from + HASH_LOOKUP_SIZE, staleHashes.size()));
+            deleted += jdbcTemplate.update("DELETE FROM company_review WHERE company_id = ? "
+                    + "AND content_hash IN (" + placeholders(slice) + ") "
+                    + "AND NOT EXISTS (SELECT 1 FROM company_review_source s "
+                    + "WHERE s.company_id = company_review.company_id AND s.content_hash = company_review.content_hash)",
+                    args(companyId, slice));
+        }
+        return deleted;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    private static String placeholders(List<String> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+
+    private static Object[] args(Long companyId, List<String> contentHashes) {
+        List<Object> args = new ArrayList<>(contentHashes.size() + 1);
+        args.add(companyId);
+        args.addAll(contentHashes);
+        return args.toArray();
+    }
+
+    private void bind(PreparedStatement ps, CompanyReview review) throws SQLException {
+        ps.setLong(1, review.getCompany().getId());
+        ps.setString(2, review.getField());
+        ps.setString(3, review.getLevel());
+        if (review.getCreatedAt() != null) {
+            ps.setTimestamp(4, Timestamp.from(review.getCreatedAt().toInstant()));
+        } else {
+            ps.setNull(4, Types.TIMESTAMP);
+        }
+        if (review.getInterviewedAt() != null) {
+            ps.setDate(5, Date.valueOf(review.getInterviewedAt()));
+        } else {
+            ps.setNull(5, Types.DATE);
+        }
+        ps.setString(6, review.getInterviewFormat());
+        ps.setString(7, review.getDifficulty());
+        ps.setString(8, review.getSummary());
+        ps.setString(9, review.getInterviewPath());
+        ps.setString(10, review.getInterviewQuestions());
+        ps.setString(11, review.getInterviewAnswer());
+        ps.setString(12, review.getAnnouncementPeriod());
+        ps.setString(13, review.getInterviewResult());
+        ps.setString(14, review.getInterviewExperience());
+        ps.setString(15, review.getContentHash());
+    }
+}
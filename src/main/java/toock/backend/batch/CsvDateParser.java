@@ -0,0 +1,149 @@
+package toock.backend.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 면접 후기 CSV의 날짜 값을 파싱합니다.
+ * 서로 다른 날짜 문자열은 수천 개 수준이라 결과(실패 포함)를 메모해 두고, 처음 보는 값도 정해진 형식이면 예외 없이 직접 파싱합니다.
+ * 형식에 맞지 않는 값은 null로 적재하고 batch.company-review.date.rejected 카운터로 집계하며, 어떤 값이 거부됐는지 알 수 있도록
+ * 처음 보는 거부 값은 한 번씩 경고 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class CsvDateParser {
+
+    // 작성일: "2024. 01. 15", 면접일: "2023/12"
+    private static final DateTimeFormatter POSTED_FORMATTER = DateTimeFormatter.ofPattern("yyyy. MM. dd");
+    private static final DateTimeFormatter INTERVIEW_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM");
+
+    // 메모할 최대 문자열 수 (넘으면 캐시 없이 파싱)
+    private static final int MAX_CACHE_SIZE = 10_000;
+
+    // 파싱 실패 결과도 메모하기 위한 표시 값
+    private static final LocalDate REJECTED = LocalDate.MIN;
+
+    private final Map<String, LocalDate> postedDates = new ConcurrentHashMap<>();
+    private final Map<String, LocalDate> interviewDates = new ConcurrentHashMap<>();
+    private final Counter rejectedPostedDates;
+    private final Counter rejectedInterviewDates;
+
+    public CsvDateParser(MeterRegistry meterRegistry) {
+        this.rejectedPostedDates = Counter.builder("batch.company-review.date.rejected")
+                .description("형식이 맞지 않아 null로 적재한 날짜 값 수")
+                .tag("column", "posted")
+                .register(meterRegistry);
+        this.rejectedInterviewDates = Counter.builder("batch.company-review.date.rejected")
+                .description("형식이 맞지 않아 null로 적재한 날짜 값 수")
+                .tag("column", "interview")
+                .register(meterRegistry);
+    }
+
+    /**
+     * "yyyy. MM. dd" 형식의 작성일을 UTC 자정 시각으로 변환합니다.
+     */
+    public OffsetDateTime parsePostedAt(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        LocalDate date = memoize(postedDates, "posted", value, CsvDateParser::parsePostedDate);
+        if (date == REJECTED) {
+            rejectedPostedDates.increment();
+            return null;
+        }
+        return date.atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * "yyyy/MM" 형식의 면접 연월을 해당 월 1일로 변환합니다.
+     */
+    public LocalDate parseInterviewedAt(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        LocalDate date = memoize(interviewDates, "interview", value, CsvDateParser::parseInterviewMonth);
+        if (date == REJECTED) {
+            rejectedInterviewDates.increment();
+            return null;
+        }
+        return date;
+    }
+
+    private static LocalDate memoize(Map<String, LocalDate> cache, String column, String value,
+                                     Function<String, LocalDate> parser) {
+        LocalDate cached = cache.get(value);
+        if (cached != null) {
+            return cached;
+        }
+        LocalDate parsed = parser.apply(value);
+        // 메모가 가득 차면 같은 값이 반복해서 들어올 수 있으므로 로그 없이 카운터로만 집계
+        boolean firstSeen = cache.size() < MAX_CACHE_SIZE && cache.putIfAbsent(value, parsed) == null;
+        if (parsed == REJECTED && firstSeen) {
+            log.warn("형식이 맞지 않는 날짜 값을 null로 적재합니다: column={}, value='{}'", column, value);
+        }
+        return parsed;
+    }
+
+    static LocalDate parsePostedDate(String value) {
+        // 일반적인 12자 형식은 직접 파싱하고, 그 밖의 값만 포매터로 확인
+        if (value.length() == 12 && value.charAt(4) == '.' && value.charAt(5) == ' '
+                && value.charAt(8) == '.' && value.charAt(9) == ' ') {
+            int year = digits(value, 0, 4);
+            int month = digits(value, 6, 8);
+            int day = digits(value, 10, 12);
+            return toDate(year, month, day);
+        }
+        try {
+            return LocalDate.parse(value, POSTED_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return REJECTED;
+        }
+    }
+
+    static LocalDate parseInterviewMonth(String value) {
+        if (value.length() == 7 && value.charAt(4) == '/') {
+            int year = digits(value, 0, 4);
+            int month = digits(value, 5, 7);
+            return toDate(year, month, 1);
+        }
+        try {
+            return YearMonth.parse(value, INTERVIEW_FORMATTER).atDay(1);
+        } catch (DateTimeParseException e) {
+            return REJECTED;
+        }
+    }
+
+    // DateTimeFormatter의 기본(SMART) 해석과 같게, 1~31일 범위의 날짜는 해당 월의 마지막 날로 맞춤
+    private static LocalDate toDate(int year, int month, int day) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return REJECTED;
+        }
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return yearMonth.atDay(Math.min(day, yearMonth.lengthOfMonth()));
+    }
+
+    // 숫자가 아닌 문자가 있으면 -1
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
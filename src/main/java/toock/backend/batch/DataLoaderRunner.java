@@ -1,6 +1,7 @@
 package toock.backend.batch;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -11,17 +12,24 @@ import org.springframework.stereotype.Component;
 public class DataLoaderRunner implements CommandLineRunner {
 
     private final CompanyReviewBatchService batchService;
+    private final CompanyReviewHashBackfill hashBackfill;
 
     private static final String CSV_FOLDER_PATH = "src/main/resources/csv/";
 
+    // 동시에 적재할 파일 수
+    @Value("${batch.company-review.parallelism:4}")
+    private int parallelism = 4;
+
     @Override
     public void run(String... args) throws Exception {
         System.out.println("==================================================");
         System.out.println("🚀 CSV 데이터 로딩 작업을 시작합니다.");
-        System.out.println("📂 대상 폴더: " + CSV_FOLDER_PATH);
+        System.out.println("📂 대상 폴더: " + CSV_FOLDER_PATH + ", 워커: " + parallelism);
         System.out.println("==================================================");
 
-        batchService.loadAllCsvsInDirectory(CSV_FOLDER_PATH);
+        // 해시가 없는 기존 후기를 먼저 채워야 같은 후기를 다시 저장하지 않음
+        hashBackfill.backfill();
+        batchService.loadAllCsvsInDirectory(CSV_FOLDER_PATH, parallelism);
 
         System.out.println("==================================================");
         System.out.println("🎉 모든 CSV 파일 처리가 완료되었습니다.");
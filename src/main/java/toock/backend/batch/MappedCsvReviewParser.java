@@ -0,0 +1,240 @@
+package toock.backend.batch;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import toock.backend.batch.dto.CompanyReviewCsvDto;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+/**
+ * 파일을 메모리 매핑해 바이트 단위로 직접 토큰화하는 CSV 파서.
+ * 리플렉션 기반 빈 바인딩 대신 헤더 위치별 setter를 한 번만 정해 두고 사용합니다.
+ * 구분자(, " \r \n \)는 모두 ASCII라 UTF-8 멀티바이트 문자 안에 나타나지 않으므로 디코딩 전에 바이트 단위로 잘라도 안전합니다.
+ * 따옴표 앞 공백 무시, 백슬래시 이스케이프, 따옴표 안 줄바꿈을 \n으로 맞추는 동작은 OpenCSV 기본 파서와 같습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "batch.company-review.parser", havingValue = "mapped")
+public class MappedCsvReviewParser implements CompanyReviewCsvParser {
+
+    // 한 번에 매핑할 최대 구간 (더 큰 파일은 구간을 옮겨 가며 읽음)
+    private static final long MAX_REGION_SIZE = 1L << 30;
+
+    private static final Map<String, BiConsumer<CompanyReviewCsvDto, String>> COLUMNS = Map.ofEntries(
+            Map.entry("Job Field", CompanyReviewCsvDto::setField),
+            Map.entry("Job Level", CompanyReviewCsvDto::setLevel),
+            Map.entry("Date Posted", CompanyReviewCsvDto::setCreatedAt),
+            Map.entry("Interview Date", CompanyReviewCsvDto::setInterviewedAt),
+            Map.entry("Hiring Method", CompanyReviewCsvDto::setInterviewFormat),
+            Map.entry("Interview Difficulty", CompanyReviewCsvDto::setDifficulty),
+            Map.entry("Summary/Review", CompanyReviewCsvDto::setSummary),
+            Map.entry("Interview Path", CompanyReviewCsvDto::setInterviewPath),
+            Map.entry("Interview Questions", CompanyReviewCsvDto::setInterviewQuestions),
+            Map.entry("Interview Answer/Feeling", CompanyReviewCsvDto::setInterviewAnswer),
+            Map.entry("Announcement Period", CompanyReviewCsvDto::setAnnouncementPeriod),
+            Map.entry("Interview Result", CompanyReviewCsvDto::setInterviewResult),
+            Map.entry("Interview Experience", CompanyReviewCsvDto::setInterviewExperience)
+    );
+
+    @Override
+    public Rows open(File csvFile) throws IOException {
+        return new MappedRows(FileChannel.open(csvFile.toPath(), StandardOpenOption.READ));
+    }
+
+    private static final class MappedRows implements Rows {
+
+        private static final int EOF = -1;
+        private static final int NONE = -2;
+
+        private final FileChannel channel;
+        private final long size;
+        private MappedByteBuffer region;
+        private long regionStart;
+        private int pending = NONE;
+
+        private byte[] field = new byte[256];
+        private int fieldLength;
+        private final List<String> record = new ArrayList<>(16);
+
+        private final List<BiConsumer<CompanyReviewCsvDto, String>> setters;
+        private CompanyReviewCsvDto nextRow;
+
+        MappedRows(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            map(0);
+            skipByteOrderMark();
+            this.setters = readHeader();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextRow == null && readRecord()) {
+                CompanyReviewCsvDto row = new CompanyReviewCsvDto();
+                for (int i = 0; i < record.size() && i < setters.size(); i++) {
+                    BiConsumer<CompanyReviewCsvDto, String> setter = setters.get(i);
+                    if (setter != null) {
+                        setter.accept(row, record.get(i));
+                    }
+                }
+                nextRow = row;
+            }
+            return nextRow != null;
+        }
+
+        @Override
+        public CompanyReviewCsvDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            CompanyReviewCsvDto row = nextRow;
+            nextRow = null;
+            return row;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private List<BiConsumer<CompanyReviewCsvDto, String>> readHeader() {
+            if (!readRecord()) {
+                return List.of();
+            }
+            List<BiConsumer<CompanyReviewCsvDto, String>> mapped = new ArrayList<>(record.size());
+            for (String column : record) {
+                mapped.add(COLUMNS.get(column.trim()));
+            }
+            return mapped;
+        }
+
+        // 레코드 하나를 record에 채움. 빈 줄은 건너뛰며, 더 읽을 레코드가 없으면 false
+        private boolean readRecord() {
+            record.clear();
+            int c = next();
+            while (c == '\r' || c == '\n') {
+                c = next();
+            }
+            if (c == EOF) {
+                return false;
+            }
+
+            while (true) {
+                fieldLength = 0;
+                while (c == ' ' || c == '\t') {
+                    append(c);
+                    c = next();
+                }
+                if (c == '"') {
+                    fieldLength = 0; // 따옴표 앞 공백은 버림
+                    c = readQuoted();
+                }
+                while (c != ',' && c != '\n' && c != '\r' && c != EOF) {
+                    if (c == '\\' && isEscapable(peek())) {
+                        c = next();
+                    }
+                    append(c);
+                    c = next();
+                }
+                record.add(new String(field, 0, fieldLength, StandardCharsets.UTF_8));
+
+                if (c == ',') {
+                    c = next();
+                    continue;
+                }
+                if (c == '\r' && peek() == '\n') {
+                    next();
+                }
+                return true;
+            }
+        }
+
+        // 여는 따옴표 다음부터 닫는 따옴표까지 읽고, 닫는 따옴표 다음 문자를 반환
+        private int readQuoted() {
+            while (true) {
+                int c = next();
+                if (c == EOF) {
+                    return EOF;
+                }
+                if (c == '\\' && isEscapable(peek())) {
+                    append(next());
+                } else if (c == '"') {
+                    if (peek() != '"') {
+                        return next();
+                    }
+                    append(next());
+                } else if (c == '\r') {
+                    if (peek() == '\n') {
+                        next();
+                    }
+                    append('\n');
+                } else {
+                    append(c);
+                }
+            }
+        }
+
+        private static boolean isEscapable(int c) {
+            return c == '"' || c == '\\';
+        }
+
+        private void append(int c) {
+            if (fieldLength == field.length) {
+                field = Arrays.copyOf(field, field.length * 2);
+            }
+            field[fieldLength++] = (byte) c;
+        }
+
+        private void skipByteOrderMark() {
+            if (size >= 3 && region.get(0) == (byte) 0xEF && region.get(1) == (byte) 0xBB && region.get(2) == (byte) 0xBF) {
+                region.position(3);
+            }
+        }
+
+        private int next() {
+            if (pending != NONE) {
+                int c = pending;
+                pending = NONE;
+                return c;
+            }
+            return read();
+        }
+
+        private int peek() {
+            if (pending == NONE) {
+                pending = read();
+            }
+            return pending;
+        }
+
+        private int read() {
+            if (!region.hasRemaining()) {
+                long nextStart = regionStart + region.limit();
+                if (nextStart >= size) {
+                    return EOF;
+                }
+                map(nextStart);
+            }
+            return region.get() & 0xFF;
+        }
+
+        private void map(long start) {
+            try {
+                regionStart = start;
+                region = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(MAX_REGION_SIZE, size - start));
+            } catch (IOException e) {
+                throw new IllegalStateException("CSV 파일을 매핑할 수 없습니다.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package toock.backend.batch;
+
+import com.opencsv.bean.CsvToBeanBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import toock.backend.batch.dto.CompanyReviewCsvDto;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * OpenCSV 애너테이션 바인딩으로 CSV를 읽는 기본 파서.
+ */
+@Component
+@ConditionalOnProperty(name = "batch.company-review.parser", havingValue = "opencsv", matchIfMissing = true)
+public class OpenCsvReviewParser implements CompanyReviewCsvParser {
+
+    @Override
+    public Rows open(File csvFile) throws IOException {
+        Reader reader = new InputStreamReader(new FileInputStream(csvFile), StandardCharsets.UTF_8);
+        Iterator<CompanyReviewCsvDto> iterator = new CsvToBeanBuilder<CompanyReviewCsvDto>(reader)
+                .withType(CompanyReviewCsvDto.class)
+                .withIgnoreLeadingWhiteSpace(true)
+                .build()
+                .iterator();
+
+        return new Rows() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public CompanyReviewCsvDto next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package toock.backend.batch.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 면접 후기와 그 후기를 포함한 CSV 파일의 관계 (파일, 회사, 내용 해시 단위).
+ * 같은 후기가 여러 파일에 있으면 파일마다 한 행씩 기록되며, 어느 파일도 참조하지 않게 된 후기만 지웁니다.
+ * CSV 적재에서 JDBC로만 기록합니다.
+ */
+@Getter
+@Entity
+@Table(name = "company_review_source",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_company_review_source", columnNames = {"source_file", "company_id", "content_hash"})
+        },
+        indexes = {
+                @Index(name = "idx_company_review_source_generation", columnList = "source_file, load_generation"),
+                @Index(name = "idx_company_review_source_hash", columnList = "company_id, content_hash")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CompanyReviewSource {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_file", nullable = false)
+    private String sourceFile;
+
+    @Column(name = "company_id", nullable = false)
+    private Long companyId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    // 이 파일에서 후기를 마지막으로 본 적재 세대 (CsvLoadCheckpoint.generation)
+    @Column(name = "load_generation", nullable = false)
+    private int loadGeneration;
+}
@@ -0,0 +1,86 @@
+package toock.backend.batch.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * CSV 파일별 적재 진행 상황과 매니페스트(크기, 체크섬, 마지막 적재 시각).
+ * 청크를 커밋할 때 같은 트랜잭션에서 함께 갱신되므로, 적재가 중간에 끊겨도 다음 실행에서 커밋된 행 이후부터 이어서 적재할 수 있고,
+ * 이미 적재한 파일의 내용이 바뀌지 않았다면 다시 읽지 않습니다.
+ */
+@Getter
+@Entity
+@Table(name = "csv_load_checkpoint",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_csv_load_checkpoint_file", columnNames = {"file_name"})
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CsvLoadCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    // 커밋까지 끝난 데이터 행 수 (헤더 제외)
+    @Column(nullable = false)
+    private long rowsCommitted;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(nullable = false)
+    private long fileSize;
+
+    // 파일 전체의 SHA-256
+    @Column(nullable = false, length = 64)
+    private String checksum;
+
+    @Column
+    private OffsetDateTime lastLoadedAt;
+
+    // 파일 내용이 바뀌어 처음부터 다시 읽을 때마다 1씩 증가. 이번 세대에서 보이지 않은 후기는 적재 완료 후 이 파일과의 관계를 끊음
+    @Column(nullable = false)
+    private int generation;
+
+    @Column(nullable = false)
+    private OffsetDateTime updatedAt;
+
+    public static CsvLoadCheckpoint start(String fileName, long fileSize, String checksum) {
+        CsvLoadCheckpoint checkpoint = new CsvLoadCheckpoint();
+        checkpoint.fileName = fileName;
+        checkpoint.restart(fileSize, checksum);
+        return checkpoint;
+    }
+
+    public boolean isUnchanged(long fileSize, String checksum) {
+        return this.fileSize == fileSize && this.checksum.equals(checksum);
+    }
+
+    // 파일 내용이 바뀌면 새 세대로 처음부터 다시 읽음 (이미 저장된 행은 내용 해시로 걸러짐)
+    public void restart(long fileSize, String checksum) {
+        this.generation++;
+        this.fileSize = fileSize;
+        this.checksum = checksum;
+        this.rowsCommitted = 0;
+        this.completed = false;
+        this.updatedAt = OffsetDateTime.now();
+    }
+
+    public void advance(int rows) {
+        this.rowsCommitted += rows;
+        this.updatedAt = OffsetDateTime.now();
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.updatedAt = OffsetDateTime.now();
+        this.lastLoadedAt = this.updatedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package toock.backend.batch.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import toock.backend.batch.domain.CsvLoadCheckpoint;
+
+import java.util.Optional;
+
+public interface CsvLoadCheckpointRepository extends JpaRepository<CsvLoadCheckpoint, Long> {
+    Optional<CsvLoadCheckpoint> findByFileName(String fileName);
+}
@@ -11,6 +11,13 @@ import java.time.OffsetDateTime;
 
 @Getter
 @Entity
+@Table(name = "company_review",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_company_review_company_hash", columnNames = {"company_id", "content_hash"})
+        },
+        indexes = {
+                @Index(name = "idx_company_review_company_field", columnList = "company_id, field")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CompanyReview {
 
@@ -64,6 +71,10 @@ public class CompanyReview {
     @Column(columnDefinition = "TEXT")
     private String interviewExperience;
 
+    // 저장된 값 기준 SHA-256. 같은 후기를 다시 적재하지 않기 위해 사용
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Builder
     public CompanyReview(Company company,
                          String field,
@@ -78,7 +89,8 @@ public class CompanyReview {
                          String interviewAnswer,
                          String announcementPeriod,
                          String interviewResult,
-                         String interviewExperience) {
+                         String interviewExperience,
+                         String contentHash) {
         this.company = company;
         this.field = field;
         this.level = level;
@@ -93,5 +105,6 @@ public class CompanyReview {
         this.announcementPeriod = announcementPeriod;
         this.interviewResult = interviewResult;
         this.interviewExperience = interviewExperience;
+        this.contentHash = contentHash;
     }
 }
\ No newline at end of file
@@ -13,6 +13,10 @@ public interface CompanyReviewRepository extends JpaRepository<CompanyReview, Lo
     List<CompanyReview> findByCompany_Name(String companyName);
     List<CompanyReview> findByCompany_NameAndField(String companyName, String field);
 
+    // (company_id, field) 인덱스만으로 처리되는 id 조회. 무작위 샘플링은 CompanyReviewSampler에서 수행
+    @Query("SELECT cr.id FROM CompanyReview cr WHERE cr.company.id = :companyId AND cr.field = :field")
+    List<Long> findIdsByCompanyIdAndField(@Param("companyId") Long companyId, @Param("field") String field);
+
     @Query(value = """
         SELECT cr.* 
         FROM company_review cr
@@ -0,0 +1,105 @@
+package toock.backend.company.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import toock.backend.company.domain.Company;
+import toock.backend.company.domain.CompanyReview;
+import toock.backend.company.repository.CompanyRepository;
+import toock.backend.interview.domain.InterviewFieldCategory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 면접 질문 생성 프롬프트에 넣을 회사 후기 문구를 (회사, 직무 카테고리)별로 미리 만들어 캐싱합니다.
+ * 면접 시작 시에는 캐시된 문구 묶음에서 필요한 개수만 뽑아 쓰므로 회사/후기 조회와 문자열 포맷팅을 반복하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyReviewContextCache {
+
+    private static final String NO_REVIEW_MESSAGE = "이 회사에 대한 면접 데이터가 없습니다.";
+
+    private final CompanyRepository companyRepository;
+    private final CompanyReviewSampler companyReviewSampler;
+    private final MeterRegistry meterRegistry;
+
+    private LoadingCache<ContextKey, CompanyReviewContext> cache;
+
+    @Value("${interview.review-cache.max-size:500}")
+    private long maxSize = 500;
+
+    @Value("${interview.review-cache.ttl-minutes:60}")
+    private long ttlMinutes = 60;
+
+    // 캐시 항목 하나에 담아둘 후기 문구 수. 면접마다 이 중에서 다시 무작위로 뽑음
+    @Value("${interview.review-cache.pool-size:100}")
+    private int poolSize = 100;
+
+    @PostConstruct
+    void buildCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "companyReviewContext");
+    }
+
+    /**
+     * 회사가 없으면 IllegalArgumentException을 던지며, 이 경우는 캐싱하지 않습니다.
+     */
+    public CompanyReviewContext get(String companyName, InterviewFieldCategory fieldCategory) {
+        return cache.get(new ContextKey(companyName, fieldCategory));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        log.info("회사 후기 프롬프트 캐시를 초기화했습니다.");
+    }
+
+    private CompanyReviewContext load(ContextKey key) {
+        Company company = companyRepository.findByName(key.companyName())
+                .orElseThrow(() -> new IllegalArgumentException("회사를 찾을 수 없습니다. 이름: " + key.companyName()));
+
+        List<String> snippets = companyReviewSampler.sample(company.getId(), key.fieldCategory().getDbValue(), poolSize)
+                .stream()
+                .map(CompanyReviewContextCache::formatReview)
+                .toList();
+        return new CompanyReviewContext(company.getId(), snippets);
+    }
+
+    private static String formatReview(CompanyReview review) {
+        return String.format("- 난이도: %s, 질문: [%s], 후기: %s",
+                review.getDifficulty(),
+                review.getInterviewQuestions() != null ? review.getInterviewQuestions().replace("\n", " ") : "N/A",
+                review.getSummary() != null ? review.getSummary().replace("\n", " ") : "N/A");
+    }
+
+    public record CompanyReviewContext(Long companyId, List<String> snippets) {
+
+        /**
+         * 캐시된 문구 중 최대 count개를 무작위로 골라 프롬프트용 문자열로 합칩니다.
+         */
+        public String toPrompt(int count) {
+            if (snippets.isEmpty()) {
+                return NO_REVIEW_MESSAGE;
+            }
+            return CompanyReviewSampler.pickIndexes(snippets.size(), count).stream()
+                    .map(snippets::get)
+                    .collect(Collectors.joining("\n"));
+        }
+    }
+
+    private record ContextKey(String companyName, InterviewFieldCategory fieldCategory) {
+    }
+}
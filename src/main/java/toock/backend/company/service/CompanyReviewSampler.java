@@ -0,0 +1,89 @@
+package toock.backend.company.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import toock.backend.company.domain.CompanyReview;
+import toock.backend.company.repository.CompanyReviewRepository;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 회사/직무별 면접 후기를 무작위로 뽑습니다.
+ * ORDER BY RAND()로 전체 후기를 정렬하는 대신, (company_id, field) 인덱스만 읽어 만든 id 배열을
+ * 메모리에 두고 그중 k개를 O(k)로 골라 PK로 조회합니다. CSV 적재 후에는 {@link #invalidateAll()}로 갱신하고,
+ * 그 밖의 경로로 추가·삭제된 후기도 반영되도록 id 배열은 일정 시간이 지나면 다시 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompanyReviewSampler {
+
+    private final CompanyReviewRepository companyReviewRepository;
+    private final MeterRegistry meterRegistry;
+
+    private LoadingCache<SampleKey, long[]> reviewIds;
+
+    @Value("${interview.review-sampler.max-size:1000}")
+    private long maxSize = 1000;
+
+    @Value("${interview.review-sampler.ttl-minutes:60}")
+    private long ttlMinutes = 60;
+
+    @PostConstruct
+    void buildCache() {
+        reviewIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build(this::loadIds);
+        CaffeineCacheMetrics.monitor(meterRegistry, reviewIds, "companyReviewSampler");
+    }
+
+    public List<CompanyReview> sample(Long companyId, String field, int count) {
+        long[] ids = reviewIds.get(new SampleKey(companyId, field));
+        if (ids.length == 0 || count <= 0) {
+            return List.of();
+        }
+        return companyReviewRepository.findAllById(pickIds(ids, count));
+    }
+
+    public void invalidateAll() {
+        reviewIds.invalidateAll();
+        log.info("면접 후기 샘플링 id 목록을 초기화했습니다.");
+    }
+
+    private long[] loadIds(SampleKey key) {
+        List<Long> ids = companyReviewRepository.findIdsByCompanyIdAndField(key.companyId(), key.field());
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    static List<Long> pickIds(long[] ids, int count) {
+        return pickIndexes(ids.length, count).stream().map(index -> ids[index]).toList();
+    }
+
+    // Floyd 알고리즘: 0..size-1 중 중복 없이 count개의 인덱스를 O(count)에 선택
+    static Set<Integer> pickIndexes(int size, int count) {
+        int k = Math.min(count, size);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Integer> picked = new HashSet<>(k * 2);
+        for (int j = size - k; j < size; j++) {
+            int candidate = random.nextInt(j + 1);
+            picked.add(picked.contains(candidate) ? j : candidate);
+        }
+        return picked;
+    }
+
+    private record SampleKey(Long companyId, String field) {
+    }
+}
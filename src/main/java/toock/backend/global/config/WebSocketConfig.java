@@ -0,0 +1,26 @@
+package toock.backend.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import toock.backend.auth.filter.JwtHandshakeInterceptor;
+import toock.backend.interview.controller.InterviewAnswerStreamHandler;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final InterviewAnswerStreamHandler interviewAnswerStreamHandler;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // 인증은 핸드셰이크 인터셉터에서 처리 (SecurityConfig에서는 /ws/** 허용)
+        registry.addHandler(interviewAnswerStreamHandler, "/ws/interviews/answer")
+                .addInterceptors(jwtHandshakeInterceptor)
+                .setAllowedOriginPatterns("*");
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -40,6 +41,13 @@ public class GlobalExceptionHandler {
                 .body(CommonResponseDto.fail(code.name(), code.getMessage()));
     }
 
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<CommonResponseDto<Void>> handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
+        log.warn("Concurrent update detected: {}", ex.getMessage());
+        return ResponseEntity.status(ErrorCode.INTERVIEW_CONCURRENT_UPDATE.getHttpStatus())
+                .body(CommonResponseDto.fail(ErrorCode.INTERVIEW_CONCURRENT_UPDATE.name(), ErrorCode.INTERVIEW_CONCURRENT_UPDATE.getMessage()));
+    }
+
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ResponseEntity<CommonResponseDto<Void>> handleMethodNotAllowed(HttpRequestMethodNotSupportedException ex, HttpServletRequest request) {
         return ResponseEntity.status(ErrorCode.METHOD_NOT_ALLOWED.getHttpStatus())
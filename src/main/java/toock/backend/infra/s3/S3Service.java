@@ -37,19 +37,32 @@ public class S3Service {
      */
     public String uploadAudio(MultipartFile file, String folderName) {
         String extension = s3Util.extractExtension(file);
+        return s3Util.uploadFile(audioFileName(folderName, extension), file);
+    }
+
+    /**
+     * 메모리에 있는 음성 데이터를 S3에 업로드합니다. 파일 이름 규칙은 {@link #uploadAudio(MultipartFile, String)}와 같습니다.
+     * @param audio 음성 데이터
+     * @param extension 점을 포함한 확장자 (예: ".wav")
+     * @param contentType 음성 MIME 타입
+     * @param folderName 저장할 폴더명
+     * @return 업로드된 파일의 S3 URL
+     */
+    public String uploadAudio(byte[] audio, String extension, String contentType, String folderName) {
+        return s3Util.uploadBytes(audioFileName(folderName, extension), audio, contentType);
+    }
 
+    private String audioFileName(String folderName, String extension) {
         // 타임스탬프를 yyyyMMddHHmmssSSS 형식으로 생성
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS"));
 
         // 파일 이름 형식: folderName/timestamp_randomUUID.extension
         // UUID는 8자리만 사용하여 간결하게 만듭니다.
-        String fileName = String.format("%s/%s_%s%s",
+        return String.format("%s/%s_%s%s",
                 folderName,
                 timestamp,
                 UUID.randomUUID().toString().substring(0, 8), // 동일 시간 업로드 충돌 방지
                 extension);
-
-        return s3Util.uploadFile(fileName, file);
     }
 
     /**
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import toock.backend.infra.s3.exception.S3Exception;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -51,6 +52,18 @@ public class S3Util {
         return amazonS3.getUrl(bucket, fileName).toString();
     }
 
+    // 메모리에 있는 파일 업로드 (실시간 답변 녹음처럼 MultipartFile이 없는 경우)
+    public String uploadBytes(String fileName, byte[] bytes, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
+
+        amazonS3.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(bytes), metadata));
+        log.info("S3 업로드 완료...");
+
+        return amazonS3.getUrl(bucket, fileName).toString();
+    }
+
     // 파일 삭제
     public void deleteFile(String url) {
         URI uri = URI.create(url);
@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import toock.backend.infra.whisper.dto.TranscriptionResponseDto;
+import toock.backend.infra.whisper.dto.WhisperDto;
 import toock.backend.infra.whisper.service.WhisperService;
 
 import java.time.LocalDateTime;
@@ -23,22 +24,27 @@ public class WhisperController {
     /**
      * 음성 파일을 텍스트로 변환
      * @param audioFile 업로드된 음성 파일
-     * @return 변환된 텍스트와 메타데이터
+     * @param timestamps true면 구간별 시작/종료 시각을 함께 반환
+     * @return 변환된 텍스트와 메타데이터 (조각 수와 단계별 처리 시간 포함)
      */
     @PostMapping(value = "/transcribe", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<TranscriptionResponseDto> transcribeAudio(
-            @RequestParam("audioFile") MultipartFile audioFile) {
+            @RequestParam("audioFile") MultipartFile audioFile,
+            @RequestParam(value = "timestamps", defaultValue = "false") boolean timestamps) {
         
         try {
             log.info("음성 변환 요청 수신: 파일명={}, 크기={} bytes", 
                 audioFile.getOriginalFilename(), audioFile.getSize());
 
             // 음성 변환 수행
-            String transcription = whisperService.transcribeAudio(audioFile);
+            WhisperDto.Response result = whisperService.transcribe(audioFile, timestamps);
+            String transcription = result.getText();
 
             // 응답 DTO 생성
             TranscriptionResponseDto response = TranscriptionResponseDto.builder()
                     .transcription(transcription)
+                    .segments(result.getSegments())
+                    .latency(result.getLatency())
                     .originalFilename(audioFile.getOriginalFilename())
                     .fileSize(audioFile.getSize())
                     .processedAt(LocalDateTime.now())
@@ -0,0 +1,41 @@
+package toock.backend.infra.whisper.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 음성 내용 해시별 Whisper 변환 결과 (DB 캐시 계층)
+ * 메모리 캐시에서 밀려났거나 서버가 재시작된 뒤에도 같은 음성을 다시 변환하지 않도록 저장합니다.
+ */
+@Getter
+@Entity
+@Table(name = "whisper_transcription_cache", indexes = {
+        @Index(name = "idx_whisper_transcription_cache_created", columnList = "created_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TranscriptionCacheEntry {
+
+    // 음성 SHA-256 (16진수) + ":" + 응답 형식
+    @Id
+    @Column(name = "cache_key", length = 100)
+    private String cacheKey;
+
+    // Whisper 응답 (JSON 문자열)
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String response;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Builder
+    public TranscriptionCacheEntry(String cacheKey, String response) {
+        this.cacheKey = cacheKey;
+        this.response = response;
+        this.createdAt = OffsetDateTime.now();
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -13,6 +14,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class TranscriptionResponseDto {
     private String transcription;
+    // timestamps=true로 요청한 경우에만 채워짐
+    private List<WhisperDto.Segment> segments;
+    // 조각 수와 단계별 처리 시간
+    private WhisperDto.Latency latency;
     private String originalFilename;
     private long fileSize;
     private LocalDateTime processedAt;
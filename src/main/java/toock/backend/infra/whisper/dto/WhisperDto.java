@@ -0,0 +1,90 @@
+package toock.backend.infra.whisper.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class WhisperDto {
+
+    /**
+     * Whisper API 응답 DTO (json, verbose_json 공통)
+     * segments, language, duration은 verbose_json 형식에서만 채워집니다.
+     * 긴 녹음을 나눠 변환한 경우 서비스가 조각별 응답을 이어 붙여 새로 만듭니다.
+     */
+    @Getter
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Response {
+        @JsonProperty("text")
+        private String text;
+
+        @JsonProperty("language")
+        private String language;
+
+        @JsonProperty("duration")
+        private Double duration;
+
+        @JsonProperty("segments")
+        private List<Segment> segments;
+
+        // API 응답이 아니라 서비스가 채우는 처리 시간 내역
+        @JsonIgnore
+        private Latency latency;
+    }
+
+    /**
+     * 구간별 텍스트와 시작/종료 시각(초)
+     */
+    @Getter
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Segment {
+        @JsonProperty("id")
+        private Integer id;
+
+        @JsonProperty("start")
+        private double start;
+
+        @JsonProperty("end")
+        private double end;
+
+        @JsonProperty("text")
+        private String text;
+    }
+
+    /**
+     * 변환 요청 한 건의 처리 시간 내역 (밀리초)
+     * 나눠 변환하지 않은 경우 chunkCount는 1, splitMillis와 stitchMillis는 0입니다.
+     * 캐시에서 결과를 찾은 경우 cacheHit이 true이고 chunkCount는 0입니다.
+     */
+    @Getter
+    @Builder(toBuilder = true)
+    @AllArgsConstructor
+    public static class Latency {
+        // 음성 내용 해시 캐시에서 결과를 찾았는지 여부
+        private boolean cacheHit;
+        // 캐시 키(SHA-256) 계산
+        private long hashMillis;
+        // Whisper에 보낸 조각 수
+        private int chunkCount;
+        // 파일 읽기와 무음 구간 탐지
+        private long splitMillis;
+        // 모든 조각의 변환이 끝날 때까지 걸린 시간
+        private long transcribeMillis;
+        // 조각별 Whisper 응답 시간 (조각 순서)
+        private List<Long> chunkMillis;
+        // 조각 텍스트와 구간을 이어 붙이는 시간
+        private long stitchMillis;
+        private long totalMillis;
+    }
+}
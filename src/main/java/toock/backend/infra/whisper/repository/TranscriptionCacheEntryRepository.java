@@ -0,0 +1,16 @@
+package toock.backend.infra.whisper.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import toock.backend.infra.whisper.domain.TranscriptionCacheEntry;
+
+import java.time.OffsetDateTime;
+
+public interface TranscriptionCacheEntryRepository extends JpaRepository<TranscriptionCacheEntry, String> {
+
+    @Modifying
+    @Query("DELETE FROM TranscriptionCacheEntry e WHERE e.createdAt < :createdAt")
+    int deleteCreatedBefore(@Param("createdAt") OffsetDateTime createdAt);
+}
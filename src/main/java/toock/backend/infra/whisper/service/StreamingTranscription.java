@@ -0,0 +1,224 @@
+package toock.backend.infra.whisper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import toock.backend.infra.whisper.dto.WhisperDto;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 말하는 동안 조금씩 도착하는 16비트 PCM 음성을 받아 부분 변환 결과를 내고, 답변이 끝나면 최종 텍스트를 만듭니다.
+ * 새 음성이 일정 길이 쌓일 때마다 확정되지 않은 구간에서 무음 경계를 찾아 그 앞부분을 확정하고 바로 변환을 시작하며,
+ * 남은 꼬리 구간은 다시 변환해 부분 결과로 알립니다. 답변이 끝나면 마지막 꼬리 구간만 변환하면 되므로 최종 텍스트가 곧바로 준비됩니다.
+ * 확정 구간의 변환 요청은 스트림마다 최대 maxConcurrentCommits개까지만 동시에 보내고, 나머지는 순서대로 기다립니다.
+ * 웹소켓 세션 하나에서만 쓰며 append/finish/cancel은 순서대로 호출된다고 가정합니다. 부분 결과 콜백은 Reactor 스레드에서 호출됩니다.
+ */
+@Slf4j
+public class StreamingTranscription {
+
+    // Whisper가 받는 최소 음성 길이(0.1초)보다 짧은 꼬리는 보내지 않음
+    private static final double MIN_TRANSCRIBE_SECONDS = 0.1;
+
+    private final WhisperService whisperService;
+    private final WavSilenceSplitter.Wav format;
+    private final WavSilenceSplitter.Options commitOptions;
+    private final int partialIntervalBytes;
+    private final int minTranscribeBytes;
+    private final int maxBytes;
+    private final int maxConcurrentCommits;
+    private final Consumer<String> partialListener;
+
+    // 지금까지 받은 전체 녹음. 앞부분 [0, committedBytes)는 확정되어 변환 중이거나 변환이 끝난 구간
+    private byte[] audio = new byte[64 * 1024];
+    private int length;
+    private int committedBytes;
+    private int bytesSinceLastPartial;
+
+    // 확정 구간별 변환 결과 (녹음 순서). 부분 결과 콜백이 다른 스레드에서 읽음
+    private final List<CompletableFuture<String>> committed = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean partialInFlight = new AtomicBoolean();
+
+    // 아직 변환 요청을 보내지 않은 확정 구간과 진행 중인 요청 수 (pendingCommits로 동기화)
+    private final Queue<PendingCommit> pendingCommits = new ArrayDeque<>();
+    private int commitsInFlight;
+    private final Disposable.Composite commitRequests = Disposables.composite();
+
+    private record PendingCommit(byte[] pcm, CompletableFuture<String> result) {
+    }
+
+    StreamingTranscription(WhisperService whisperService, WavSilenceSplitter.Wav format,
+                           WavSilenceSplitter.Options commitOptions, double partialIntervalSeconds, int maxBytes,
+                           int maxConcurrentCommits, Consumer<String> partialListener) {
+        this.whisperService = whisperService;
+        this.format = format;
+        this.commitOptions = commitOptions;
+        this.partialIntervalBytes = bytesOf(format, partialIntervalSeconds);
+        this.minTranscribeBytes = bytesOf(format, MIN_TRANSCRIBE_SECONDS);
+        this.maxBytes = maxBytes;
+        this.maxConcurrentCommits = Math.max(1, maxConcurrentCommits);
+        this.partialListener = partialListener;
+    }
+
+    /**
+     * 음성 조각을 이어 붙입니다.
+     * @throws IllegalStateException 녹음이 Whisper 최대 파일 크기를 넘은 경우
+     */
+    public void append(ByteBuffer pcm) {
+        int size = pcm.remaining();
+        if (length + size > maxBytes) {
+            throw new IllegalStateException("녹음 길이가 최대 크기를 넘었습니다.");
+        }
+        if (length + size > audio.length) {
+            audio = Arrays.copyOf(audio, Math.min(maxBytes, Math.max(length + size, audio.length * 2)));
+        }
+        pcm.get(audio, length, size);
+        length += size;
+
+        bytesSinceLastPartial += size;
+        if (bytesSinceLastPartial >= partialIntervalBytes) {
+            bytesSinceLastPartial = 0;
+            commitCompletedSpeech();
+            requestPartial();
+        }
+    }
+
+    /**
+     * 남은 꼬리 구간을 확정하고, 모든 구간의 변환이 끝나면 이어 붙인 최종 텍스트를 반환합니다.
+     * 받은 음성이 없으면 IllegalStateException으로 실패합니다.
+     */
+    public Mono<String> finish() {
+        if (length - committedBytes >= minTranscribeBytes) {
+            commit(committedBytes, length);
+        }
+        if (committed.isEmpty()) {
+            return Mono.error(new IllegalStateException("녹음된 답변이 없습니다."));
+        }
+        return Flux.fromIterable(committed)
+                .concatMap(Mono::fromFuture)
+                .filter(text -> !text.isBlank())
+                .map(String::strip)
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * 진행 중인 변환 요청을 모두 취소합니다. 답변을 끝내지 않고 연결이 끊긴 경우에 호출합니다.
+     */
+    public void cancel() {
+        synchronized (pendingCommits) {
+            pendingCommits.clear();
+        }
+        commitRequests.dispose();
+        committed.forEach(future -> future.cancel(true));
+    }
+
+    /**
+     * 전체 녹음을 WAV 파일로 반환합니다.
+     */
+    public byte[] recordingAsWav() {
+        byte[] header = WavSilenceSplitter.header(format, length);
+        byte[] wav = Arrays.copyOf(header, header.length + length);
+        System.arraycopy(audio, 0, wav, header.length, length);
+        return wav;
+    }
+
+    // 확정되지 않은 구간을 무음 경계로 나눠, 마지막 조각을 뺀 앞부분을 확정
+    private void commitCompletedSpeech() {
+        WavSilenceSplitter.Wav pending = new WavSilenceSplitter.Wav(format.channels(), format.sampleRate(),
+                format.blockAlign(), committedBytes, length - committedBytes);
+        List<WavSilenceSplitter.Chunk> chunks = WavSilenceSplitter.split(audio, pending, commitOptions);
+        for (int i = 0; i < chunks.size() - 1; i++) {
+            WavSilenceSplitter.Chunk chunk = chunks.get(i);
+            commit(chunk.dataOffset(), chunk.dataOffset() + chunk.dataLength());
+        }
+    }
+
+    // 구간을 복사해 대기열에 넣음. 결과 자리는 녹음 순서대로 바로 만들어 두고 변환이 끝나면 채움
+    private void commit(int from, int to) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        committed.add(result);
+        committedBytes = to;
+        synchronized (pendingCommits) {
+            pendingCommits.add(new PendingCommit(Arrays.copyOfRange(audio, from, to), result));
+        }
+        startPendingCommits();
+    }
+
+    // 진행 중인 요청이 maxConcurrentCommits개보다 적으면 대기 중인 구간을 순서대로 보내고, 요청이 끝날 때마다 다시 호출됨
+    private void startPendingCommits() {
+        List<PendingCommit> toStart = new ArrayList<>();
+        synchronized (pendingCommits) {
+            while (commitsInFlight < maxConcurrentCommits && !pendingCommits.isEmpty()) {
+                commitsInFlight++;
+                toStart.add(pendingCommits.poll());
+            }
+        }
+        for (PendingCommit pending : toStart) {
+            commitRequests.add(whisperService.transcribePcm(pending.pcm(), format)
+                    .map(WhisperDto.Response::getText)
+                    .doFinally(signal -> {
+                        synchronized (pendingCommits) {
+                            commitsInFlight--;
+                        }
+                        startPendingCommits();
+                    })
+                    .subscribe(pending.result()::complete, pending.result()::completeExceptionally,
+                            () -> pending.result().complete("")));
+        }
+    }
+
+    // 꼬리 구간을 변환해 확정 구간의 결과와 함께 알림. 이미 요청 중이면 건너뜀
+    private void requestPartial() {
+        if (length - committedBytes < minTranscribeBytes || !partialInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        int tailStart = committedBytes;
+        int committedCount = committed.size();
+        transcribe(tailStart, length)
+                .doFinally(signal -> partialInFlight.set(false))
+                .subscribe(tail -> partialListener.accept(partialText(committedCount, tail)),
+                        e -> log.warn("부분 변환 실패: {}", e.getMessage()));
+    }
+
+    // 앞에서부터 변환이 끝난 확정 구간까지만 이어 붙이고 꼬리 결과를 덧붙임
+    private String partialText(int committedCount, String tail) {
+        StringJoiner text = new StringJoiner(" ");
+        for (int i = 0; i < committedCount; i++) {
+            CompletableFuture<String> future = committed.get(i);
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                break;
+            }
+            String part = future.join();
+            if (!part.isBlank()) {
+                text.add(part.strip());
+            }
+        }
+        if (!tail.isBlank()) {
+            text.add(tail.strip());
+        }
+        return text.toString();
+    }
+
+    // 다른 구간이 붙어도 바뀌지 않도록 구간을 복사해 보냄
+    private Mono<String> transcribe(int from, int to) {
+        return whisperService.transcribePcm(Arrays.copyOfRange(audio, from, to), format)
+                .map(WhisperDto.Response::getText);
+    }
+
+    private static int bytesOf(WavSilenceSplitter.Wav format, double seconds) {
+        return (int) (seconds * format.sampleRate()) * format.blockAlign();
+    }
+}
@@ -0,0 +1,181 @@
+package toock.backend.infra.whisper.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+import toock.backend.infra.whisper.domain.TranscriptionCacheEntry;
+import toock.backend.infra.whisper.dto.WhisperDto;
+import toock.backend.infra.whisper.repository.TranscriptionCacheEntryRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 음성 내용의 SHA-256 해시로 Whisper 변환 결과를 캐싱합니다.
+ * 네트워크가 불안정해 클라이언트가 같은 음성을 다시 올려도 API를 다시 호출하지 않도록,
+ * 메모리(LRU에 가까운 Caffeine 크기 제한) 캐시를 먼저 보고 whisper.cache.db.enabled면 DB 캐시를 이어서 봅니다.
+ * whisper.transcription.cache 카운터(result=memory|db|miss)로 계층별 적중률을 집계합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranscriptionCache {
+
+    // 해시를 계산할 때 업로드 스트림을 한 번에 읽는 크기
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private final MeterRegistry meterRegistry;
+    private final TranscriptionCacheEntryRepository repository;
+    private final ObjectMapper objectMapper;
+
+    private Cache<String, WhisperDto.Response> cache;
+    private Counter memoryHits;
+    private Counter dbHits;
+    private Counter misses;
+
+    @Value("${whisper.cache.max-size:1000}")
+    private long maxSize = 1000;
+
+    @Value("${whisper.cache.ttl-hours:24}")
+    private long ttlHours = 24;
+
+    @Value("${whisper.cache.db.enabled:false}")
+    private boolean dbEnabled = false;
+
+    @Value("${whisper.cache.db.ttl-days:30}")
+    private long dbTtlDays = 30;
+
+    /**
+     * 설정값으로 메모리 캐시와 조회 카운터를 만듭니다. 스프링 밖에서 직접 생성할 때도 사용하기 전에 호출해야 합니다.
+     */
+    @PostConstruct
+    public void buildCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "whisperTranscription");
+        memoryHits = lookupCounter("memory");
+        dbHits = lookupCounter("db");
+        misses = lookupCounter("miss");
+    }
+
+    /**
+     * 업로드 스트림을 끝까지 읽어 캐시 키를 만듭니다. 파일을 byte[]로 복사하지 않고 버퍼 하나로 해시합니다.
+     * @param responseFormat 같은 음성이라도 응답 형식(json, verbose_json)이 다르면 다른 항목으로 저장
+     */
+    public String key(MultipartFile audioFile, String responseFormat) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        try (InputStream inputStream = audioFile.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest()) + ":" + responseFormat;
+    }
+
+    public Optional<WhisperDto.Response> get(String key) {
+        WhisperDto.Response cached = cache.getIfPresent(key);
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+        if (dbEnabled) {
+            Optional<WhisperDto.Response> stored = findStored(key);
+            if (stored.isPresent()) {
+                cache.put(key, stored.get());
+                dbHits.increment();
+                return stored;
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 변환 결과를 저장합니다. 처리 시간(latency)은 요청마다 다르므로 빼고 저장합니다.
+     */
+    public void put(String key, WhisperDto.Response response) {
+        WhisperDto.Response entry = response.toBuilder().latency(null).build();
+        cache.put(key, entry);
+        if (dbEnabled) {
+            store(key, entry);
+        }
+    }
+
+    @Transactional
+    @Scheduled(cron = "${whisper.cache.db.purge-cron:0 30 4 * * *}")
+    public void purgeExpired() {
+        if (!dbEnabled) {
+            return;
+        }
+        int deleted = repository.deleteCreatedBefore(OffsetDateTime.now().minusDays(dbTtlDays));
+        log.info("만료된 음성 변환 캐시 {}건 삭제", deleted);
+    }
+
+    // DB 캐시 장애로 변환 자체가 실패하지 않도록 오류는 로그만 남기고 캐시 미스로 처리
+    private Optional<WhisperDto.Response> findStored(String key) {
+        try {
+            return repository.findById(key)
+                    .map(stored -> readResponse(stored.getResponse()));
+        } catch (RuntimeException e) {
+            log.warn("음성 변환 DB 캐시 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(String key, WhisperDto.Response response) {
+        try {
+            repository.save(TranscriptionCacheEntry.builder()
+                    .cacheKey(key)
+                    .response(objectMapper.writeValueAsString(response))
+                    .build());
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("음성 변환 DB 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private WhisperDto.Response readResponse(String json) {
+        try {
+            return objectMapper.readValue(json, WhisperDto.Response.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 음성 변환 결과를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder("whisper.transcription.cache")
+                .description("음성 해시 캐시 조회 결과 (memory/db 적중, miss)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package toock.backend.infra.whisper.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 16비트 PCM WAV 음성을 무음 구간에서 잘라 여러 조각으로 나눕니다.
+ * 20ms 프레임의 RMS 음량이 기준 미만인 프레임이 일정 시간 이상 이어지면 무음으로 보고,
+ * 조각 길이가 목표 길이를 넘은 뒤 처음 만나는 무음 구간의 가운데에서 자릅니다. 최대 길이까지 무음이 없으면 그 위치에서 자릅니다.
+ * 조각은 원본 배열의 위치만 가리키며, 전송할 때 44바이트 헤더만 새로 만들어 앞에 붙입니다.
+ */
+public final class WavSilenceSplitter {
+
+    private static final int FRAME_MILLIS = 20;
+    private static final int HEADER_SIZE = 44;
+
+    private WavSilenceSplitter() {
+    }
+
+    /**
+     * 무음 탐지 기준
+     * @param targetSeconds 이 길이를 넘긴 뒤 만나는 무음에서 자름
+     * @param maxSeconds 무음이 없어도 이 길이에서 자름
+     * @param minSilenceSeconds 무음으로 인정할 최소 길이
+     * @param silenceThreshold 무음으로 볼 프레임 RMS 진폭 (16비트 샘플 기준)
+     */
+    public record Options(double targetSeconds, double maxSeconds, double minSilenceSeconds, int silenceThreshold) {
+    }
+
+    /**
+     * WAV 헤더에서 읽은 포맷과 data 청크 위치
+     */
+    public record Wav(int channels, int sampleRate, int blockAlign, long dataOffset, long dataLength) {
+
+        public double durationSeconds() {
+            return (double) dataLength / ((long) blockAlign * sampleRate);
+        }
+    }
+
+    /**
+     * PCM data 구간 안의 한 조각
+     * @param dataOffset 파일 기준 시작 위치
+     * @param dataLength 바이트 길이
+     * @param startSeconds 원본 기준 시작 시각
+     */
+    public record Chunk(int dataOffset, int dataLength, double startSeconds) {
+    }
+
+    /**
+     * 파일 앞부분에서 16비트 PCM WAV 헤더를 읽습니다.
+     * @param head 파일 앞부분 (fmt, data 청크 헤더까지 포함해야 함)
+     * @param fileSize 전체 파일 크기
+     * @return 16비트 PCM WAV가 아니거나 헤더를 찾지 못하면 null
+     */
+    public static Wav parseHeader(byte[] head, long fileSize) {
+        if (head.length < 12 || !tag(head, 0, "RIFF") || !tag(head, 8, "WAVE")) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(head).order(ByteOrder.LITTLE_ENDIAN);
+        int channels = 0;
+        int sampleRate = 0;
+        int blockAlign = 0;
+        boolean pcm16 = false;
+
+        int position = 12;
+        while (position + 8 <= head.length) {
+            long size = Integer.toUnsignedLong(buffer.getInt(position + 4));
+            if (tag(head, position, "fmt ") && position + 24 <= head.length) {
+                int audioFormat = Short.toUnsignedInt(buffer.getShort(position + 8));
+                channels = Short.toUnsignedInt(buffer.getShort(position + 10));
+                sampleRate = buffer.getInt(position + 12);
+                blockAlign = Short.toUnsignedInt(buffer.getShort(position + 20));
+                int bitsPerSample = Short.toUnsignedInt(buffer.getShort(position + 22));
+                pcm16 = audioFormat == 1 && bitsPerSample == 16 && channels > 0 && sampleRate > 0
+                        && blockAlign == channels * 2;
+            } else if (tag(head, position, "data")) {
+                if (!pcm16) {
+                    return null;
+                }
+                long dataOffset = position + 8;
+                // 스트리밍으로 녹음된 파일은 data 크기가 0이나 최댓값으로 남아 있기도 함
+                long dataLength = Math.min(size == 0 ? Long.MAX_VALUE : size, fileSize - dataOffset);
+                dataLength -= dataLength % blockAlign;
+                return dataLength > 0 ? new Wav(channels, sampleRate, blockAlign, dataOffset, dataLength) : null;
+            }
+            long next = position + 8L + size + (size & 1);
+            if (next > head.length) {
+                break;
+            }
+            position = (int) next;
+        }
+        return null;
+    }
+
+    /**
+     * data 구간을 무음 경계에서 나눕니다. 목표 길이보다 짧으면 조각 하나를 반환합니다.
+     * @param bytes WAV 파일 전체
+     */
+    public static List<Chunk> split(byte[] bytes, Wav wav, Options options) {
+        int frameBytes = wav.blockAlign() * Math.max(1, wav.sampleRate() * FRAME_MILLIS / 1000);
+        int dataOffset = (int) wav.dataOffset();
+        int dataEnd = (int) (wav.dataOffset() + wav.dataLength());
+        int frames = (dataEnd - dataOffset) / frameBytes;
+
+        int targetFrames = toFrames(options.targetSeconds());
+        int maxFrames = Math.max(targetFrames, toFrames(options.maxSeconds()));
+        int minSilenceFrames = Math.max(1, toFrames(options.minSilenceSeconds()));
+        long thresholdSquared = (long) options.silenceThreshold() * options.silenceThreshold();
+
+        List<Integer> cuts = new ArrayList<>();
+        int chunkStart = 0;
+        int silenceStart = -1;
+        for (int frame = 0; frame < frames; frame++) {
+            if (isSilent(bytes, dataOffset + frame * frameBytes, frameBytes, thresholdSquared)) {
+                if (silenceStart < 0) {
+                    silenceStart = frame;
+                }
+            } else {
+                if (silenceStart >= 0 && frame - silenceStart >= minSilenceFrames) {
+                    int middle = silenceStart + (frame - silenceStart) / 2;
+                    if (middle - chunkStart >= targetFrames) {
+                        cuts.add(middle);
+                        chunkStart = middle;
+                    }
+                }
+                silenceStart = -1;
+            }
+            if (frame + 1 - chunkStart >= maxFrames) {
+                cuts.add(frame + 1);
+                chunkStart = frame + 1;
+                silenceStart = silenceStart >= 0 ? frame + 1 : -1;
+            }
+        }
+
+        List<Chunk> chunks = new ArrayList<>(cuts.size() + 1);
+        int previous = 0;
+        for (int cut : cuts) {
+            if (cut < frames) {
+                chunks.add(chunk(wav, dataOffset + previous * frameBytes, (cut - previous) * frameBytes, previous));
+                previous = cut;
+            }
+        }
+        // 마지막 조각은 프레임 단위로 나눠떨어지지 않는 꼬리까지 포함
+        int lastOffset = dataOffset + previous * frameBytes;
+        chunks.add(chunk(wav, lastOffset, dataEnd - lastOffset, previous));
+        return chunks;
+    }
+
+    /**
+     * 조각 하나를 독립된 WAV 파일로 보내기 위한 헤더
+     */
+    public static byte[] header(Wav wav, int dataLength) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(new byte[]{'R', 'I', 'F', 'F'}).putInt(HEADER_SIZE - 8 + dataLength)
+                .put(new byte[]{'W', 'A', 'V', 'E'})
+                .put(new byte[]{'f', 'm', 't', ' '}).putInt(16)
+                .putShort((short) 1)
+                .putShort((short) wav.channels())
+                .putInt(wav.sampleRate())
+                .putInt(wav.sampleRate() * wav.blockAlign())
+                .putShort((short) wav.blockAlign())
+                .putShort((short) 16)
+                .put(new byte[]{'d', 'a', 't', 'a'}).putInt(dataLength);
+        return header.array();
+    }
+
+    private static Chunk chunk(Wav wav, int offset, int length, int startFrame) {
+        return new Chunk(offset, length, startFrame * FRAME_MILLIS / 1000.0);
+    }
+
+    private static int toFrames(double seconds) {
+        return (int) Math.round(seconds * 1000 / FRAME_MILLIS);
+    }
+
+    // 평균 제곱 진폭을 기준의 제곱과 비교해 제곱근 계산을 피함
+    private static boolean isSilent(byte[] bytes, int offset, int length, long thresholdSquared) {
+        long sumOfSquares = 0;
+        int samples = length / 2;
+        for (int i = offset; i < offset + length; i += 2) {
+            int sample = (short) ((bytes[i] & 0xFF) | (bytes[i + 1] << 8));
+            sumOfSquares += (long) sample * sample;
+        }
+        return sumOfSquares < thresholdSquared * samples;
+    }
+
+    private static boolean tag(byte[] bytes, int offset, String tag) {
+        for (int i = 0; i < 4; i++) {
+            if (bytes[offset + i] != tag.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,28 +1,39 @@
 package toock.backend.infra.whisper.service;
 
+import io.netty.buffer.PooledByteBufAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 import toock.backend.global.error.ErrorCode;
+import toock.backend.infra.whisper.dto.WhisperDto;
 import toock.backend.infra.whisper.exception.WhisperException;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -30,31 +41,135 @@ import java.util.UUID;
 public class WhisperService {
 
     private final WebClient webClient;
+    private final TranscriptionCache transcriptionCache;
 
     @Value("${openai.api.key}")
     private String openaiApiKey;
 
-    @Value("${whisper.upload.dir:uploads/audio}")
-    private String uploadDir;
+    @Value("${whisper.api.url:https://api.openai.com/v1/audio/transcriptions}")
+    private String apiUrl = "https://api.openai.com/v1/audio/transcriptions";
+
+    // 이 길이(초) 이상인 WAV 녹음만 나눠 변환 (0 이하면 나누지 않음)
+    @Value("${whisper.chunk.min-duration-seconds:60}")
+    private double chunkMinDurationSeconds = 60;
+
+    @Value("${whisper.chunk.target-seconds:30}")
+    private double chunkTargetSeconds = 30;
+
+    @Value("${whisper.chunk.max-seconds:60}")
+    private double chunkMaxSeconds = 60;
+
+    @Value("${whisper.chunk.min-silence-seconds:0.3}")
+    private double chunkMinSilenceSeconds = 0.3;
+
+    @Value("${whisper.chunk.silence-threshold:500}")
+    private int chunkSilenceThreshold = 500;
+
+    // 한 요청에서 동시에 보내는 조각 수 (실시간 스트리밍에서는 스트림마다 동시에 변환하는 확정 구간 수)
+    @Value("${whisper.chunk.max-concurrency:4}")
+    private int chunkMaxConcurrency = 4;
+
+    // 실시간 답변 스트리밍: 클라이언트가 보내는 16비트 모노 PCM의 샘플레이트
+    @Value("${whisper.stream.sample-rate:16000}")
+    private int streamSampleRate = 16000;
+
+    // 새 음성이 이만큼 쌓일 때마다 무음 경계를 확정하고 부분 결과를 갱신
+    @Value("${whisper.stream.partial-interval-seconds:1.5}")
+    private double streamPartialIntervalSeconds = 1.5;
+
+    // 답변이 끝난 뒤 변환할 꼬리 구간이 짧도록 업로드 분할보다 짧은 길이로 확정
+    @Value("${whisper.stream.commit-target-seconds:5}")
+    private double streamCommitTargetSeconds = 5;
+
+    @Value("${whisper.stream.commit-max-seconds:15}")
+    private double streamCommitMaxSeconds = 15;
+
+    private static final String RESPONSE_FORMAT_JSON = "json";
+    private static final String RESPONSE_FORMAT_VERBOSE_JSON = "verbose_json";
+
+    // 업로드 스트림을 요청 본문으로 옮길 때 한 번에 읽는 크기
+    private static final int STREAM_CHUNK_SIZE = 64 * 1024;
+
+    // Netty가 청크를 전송한 뒤 풀로 돌려주므로 파일 크기만큼 힙을 새로 할당하지 않음
+    private static final DataBufferFactory BUFFER_FACTORY = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+    // WAV 헤더(fmt, data 청크 위치)를 찾기 위해 앞에서 읽는 크기
+    private static final int WAV_HEADER_PROBE_SIZE = 4096;
+
+    private static final MediaType AUDIO_WAV = MediaType.parseMediaType("audio/wav");
+
+    private static final String STREAM_FILENAME = "stream.wav";
+
+    // Whisper API 최대 파일 크기
+    private static final int MAX_FILE_SIZE = 25 * 1024 * 1024;
 
     /**
      * 음성 파일을 텍스트로 변환
+     * 업로드된 파일을 디스크나 byte[]로 복사하지 않고, 입력 스트림을 청크 단위로 읽어 Whisper 요청 본문에 바로 흘려보냅니다.
      * @param audioFile 업로드된 음성 파일
      * @return 변환된 텍스트
      */
     public String transcribeAudio(MultipartFile audioFile) {
+        return transcribe(audioFile, false).getText();
+    }
+
+    /**
+     * 음성 파일을 구간별 시작/종료 시각과 함께 텍스트로 변환 (verbose_json)
+     * @param audioFile 업로드된 음성 파일
+     * @return 전체 텍스트와 구간 목록
+     */
+    public WhisperDto.Response transcribeAudioWithSegments(MultipartFile audioFile) {
+        return transcribe(audioFile, true);
+    }
+
+    /**
+     * 음성 파일을 텍스트로 변환하고 처리 시간 내역을 함께 반환
+     * 긴 WAV 녹음은 무음 구간에서 나눠 조각별로 동시에 변환한 뒤 원래 순서대로 이어 붙입니다.
+     * 그 밖의 형식은 무음을 찾으려면 디코딩이 필요하므로 한 번에 보냅니다.
+     * 재시도 등으로 같은 음성이 다시 오면 내용 해시로 캐시된 결과를 반환하고 API를 호출하지 않습니다.
+     * @param audioFile 업로드된 음성 파일
+     * @param withSegments true면 verbose_json으로 요청해 구간 목록을 채움
+     * @return 변환 결과와 latency
+     */
+    public WhisperDto.Response transcribe(MultipartFile audioFile, boolean withSegments) {
+        String responseFormat = withSegments ? RESPONSE_FORMAT_VERBOSE_JSON : RESPONSE_FORMAT_JSON;
+        long startedAt = System.nanoTime();
         try {
             validateAudioFile(audioFile);
-            Path tempFilePath = saveToTempFile(audioFile);
-            try {
-                String transcription = callWhisperApi(tempFilePath, audioFile.getOriginalFilename());
-                log.info("음성 변환 완료: 파일명={}, 변환된 텍스트 길이={}", 
-                    audioFile.getOriginalFilename(), 
-                    transcription.length());
-                return transcription;
-            } finally {
-                Files.deleteIfExists(tempFilePath);
+
+            // 해시는 API 호출 전에 알아야 하므로 업로드 스트림을 한 번 더 읽어 계산
+            String cacheKey = transcriptionCache.key(audioFile, responseFormat);
+            long hashMillis = millisSince(startedAt);
+            Optional<WhisperDto.Response> cached = transcriptionCache.get(cacheKey);
+            if (cached.isPresent()) {
+                log.info("음성 변환 캐시 적중: 파일명={}, 해시={}ms", audioFile.getOriginalFilename(), hashMillis);
+                return cached.get().toBuilder()
+                        .latency(WhisperDto.Latency.builder()
+                                .cacheHit(true)
+                                .hashMillis(hashMillis)
+                                .chunkMillis(List.of())
+                                .totalMillis(millisSince(startedAt))
+                                .build())
+                        .build();
             }
+
+            WavSilenceSplitter.Wav wav = chunkableWav(audioFile);
+            WhisperDto.Response transcription = wav != null
+                    ? transcribeInChunks(audioFile, wav, responseFormat, startedAt)
+                    : transcribeWhole(audioFile, responseFormat, startedAt);
+            transcriptionCache.put(cacheKey, transcription);
+
+            WhisperDto.Latency latency = transcription.getLatency().toBuilder().hashMillis(hashMillis).build();
+            log.info("음성 변환 완료: 파일명={}, 변환된 텍스트 길이={}, 조각 수={}, 해시={}ms, 분할={}ms, 변환={}ms, 병합={}ms, 전체={}ms",
+                audioFile.getOriginalFilename(),
+                transcription.getText().length(),
+                latency.getChunkCount(),
+                latency.getHashMillis(),
+                latency.getSplitMillis(),
+                latency.getTranscribeMillis(),
+                latency.getStitchMillis(),
+                latency.getTotalMillis());
+            return transcription.toBuilder().latency(latency).build();
         } catch (IllegalArgumentException e) {
             throw e;
         } catch (WhisperException e) {
@@ -66,54 +181,205 @@ public class WhisperService {
     }
 
     /**
-     * OpenAI Whisper API 호출
+     * 실시간 답변 스트리밍을 시작
+     * 클라이언트는 whisper.stream.sample-rate의 16비트 모노 PCM을 보내야 합니다.
+     * @param partialListener 부분 변환 결과를 받을 콜백 (Reactor 스레드에서 호출)
+     * @return 세션 하나에서 사용할 스트림
      */
-    private String callWhisperApi(Path audioFilePath, String originalFilename) throws IOException {
-        try {
-            byte[] audioBytes = Files.readAllBytes(audioFilePath);
-            ByteArrayResource audioResource = new ByteArrayResource(audioBytes) {
-                @Override
-                public String getFilename() {
-                    return originalFilename;
-                }
-            };
-
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", audioResource);
-            body.add("model", "whisper-1");
-
-            String response = webClient.post()
-                    .uri("https://api.openai.com/v1/audio/transcriptions")
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + openaiApiKey)
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(BodyInserters.fromMultipartData(body))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            // JSON 응답에서 text 필드 추출
-            return extractTextFromResponse(response);
-        } catch (WhisperException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Whisper API 호출 실패: {}", e.getMessage());
-            throw new WhisperException(ErrorCode.EXTERNAL_API_ERROR, "Whisper API 호출 중 오류가 발생했습니다.", e);
+    public StreamingTranscription openStream(Consumer<String> partialListener) {
+        WavSilenceSplitter.Wav format = new WavSilenceSplitter.Wav(1, streamSampleRate, 2, 0, 0);
+        WavSilenceSplitter.Options commitOptions = new WavSilenceSplitter.Options(
+                streamCommitTargetSeconds, streamCommitMaxSeconds, chunkMinSilenceSeconds, chunkSilenceThreshold);
+        return new StreamingTranscription(this, format, commitOptions, streamPartialIntervalSeconds,
+                MAX_FILE_SIZE, chunkMaxConcurrency, partialListener);
+    }
+
+    /**
+     * 헤더 없는 16비트 PCM 구간을 WAV로 감싸 변환 (스트리밍 중 확정/부분 구간용)
+     */
+    Mono<WhisperDto.Response> transcribePcm(byte[] pcm, WavSilenceSplitter.Wav format) {
+        WavSilenceSplitter.Wav wav = new WavSilenceSplitter.Wav(
+                format.channels(), format.sampleRate(), format.blockAlign(), 0, pcm.length);
+        return callWhisperApi(chunkContent(pcm, wav, new WavSilenceSplitter.Chunk(0, pcm.length, 0)),
+                STREAM_FILENAME, AUDIO_WAV, RESPONSE_FORMAT_JSON);
+    }
+
+    private WhisperDto.Response transcribeWhole(MultipartFile audioFile, String responseFormat, long startedAt) {
+        // 구독 시점에 스트림을 열고, 다 보내거나 취소되면 닫음
+        Flux<DataBuffer> audioContent = DataBufferUtils.readInputStream(
+                audioFile::getInputStream, BUFFER_FACTORY, STREAM_CHUNK_SIZE);
+
+        Tuple2<Long, WhisperDto.Response> result = callWhisperApi(
+                audioContent, audioFile.getOriginalFilename(), audioContentType(audioFile), responseFormat)
+                .elapsed()
+                .block();
+
+        WhisperDto.Latency latency = WhisperDto.Latency.builder()
+                .chunkCount(1)
+                .transcribeMillis(result.getT1())
+                .chunkMillis(List.of(result.getT1()))
+                .totalMillis(millisSince(startedAt))
+                .build();
+        return result.getT2().toBuilder().latency(latency).build();
+    }
+
+    private WhisperDto.Response transcribeInChunks(MultipartFile audioFile, WavSilenceSplitter.Wav wav,
+                                                   String responseFormat, long startedAt) throws IOException {
+        // 무음 탐지에는 임의 위치 접근이 필요해 파일을 한 번만 읽고(최대 25MB), 조각은 이 배열을 복사 없이 감싸 보냄
+        long splitStartedAt = System.nanoTime();
+        byte[] bytes = audioFile.getBytes();
+        List<WavSilenceSplitter.Chunk> chunks = WavSilenceSplitter.split(bytes, wav, new WavSilenceSplitter.Options(
+                chunkTargetSeconds, chunkMaxSeconds, chunkMinSilenceSeconds, chunkSilenceThreshold));
+        long splitMillis = millisSince(splitStartedAt);
+
+        // 조각 순서대로 결과를 내보내되, 동시에 진행하는 요청은 chunkMaxConcurrency개로 제한
+        long transcribeStartedAt = System.nanoTime();
+        List<Tuple2<Long, WhisperDto.Response>> results = Flux.fromIterable(chunks)
+                .index()
+                .flatMapSequential(indexed -> callWhisperApi(
+                                chunkContent(bytes, wav, indexed.getT2()),
+                                chunkFilename(audioFile.getOriginalFilename(), indexed.getT1()),
+                                AUDIO_WAV,
+                                responseFormat)
+                                .elapsed(),
+                        Math.max(1, chunkMaxConcurrency))
+                .collectList()
+                .block();
+        long transcribeMillis = millisSince(transcribeStartedAt);
+
+        long stitchStartedAt = System.nanoTime();
+        WhisperDto.Response stitched = stitch(chunks, results);
+        long stitchMillis = millisSince(stitchStartedAt);
+
+        WhisperDto.Latency latency = WhisperDto.Latency.builder()
+                .chunkCount(chunks.size())
+                .splitMillis(splitMillis)
+                .transcribeMillis(transcribeMillis)
+                .chunkMillis(results.stream().map(Tuple2::getT1).toList())
+                .stitchMillis(stitchMillis)
+                .totalMillis(millisSince(startedAt))
+                .build();
+        return stitched.toBuilder().latency(latency).build();
+    }
+
+    /**
+     * 나눠 변환할 WAV인지 확인
+     * 파일 앞부분의 헤더만 읽어 길이를 계산하므로, 짧은 녹음은 기존처럼 스트리밍으로 한 번에 보냅니다.
+     * @return 16비트 PCM WAV이고 기준 길이 이상이면 헤더 정보, 아니면 null
+     */
+    private WavSilenceSplitter.Wav chunkableWav(MultipartFile audioFile) throws IOException {
+        if (chunkMinDurationSeconds <= 0 || !"wav".equals(getFileExtension(audioFile.getOriginalFilename()).toLowerCase())) {
+            return null;
+        }
+        byte[] head;
+        try (InputStream inputStream = audioFile.getInputStream()) {
+            head = inputStream.readNBytes(WAV_HEADER_PROBE_SIZE);
         }
+        WavSilenceSplitter.Wav wav = WavSilenceSplitter.parseHeader(head, audioFile.getSize());
+        return wav != null && wav.durationSeconds() >= chunkMinDurationSeconds ? wav : null;
+    }
+
+    // 조각마다 헤더를 새로 붙인 독립 WAV. 재구독해도 처음부터 읽도록 구독할 때마다 감쌈
+    private static Flux<DataBuffer> chunkContent(byte[] bytes, WavSilenceSplitter.Wav wav, WavSilenceSplitter.Chunk chunk) {
+        return Flux.defer(() -> Flux.just(
+                DefaultDataBufferFactory.sharedInstance.wrap(WavSilenceSplitter.header(wav, chunk.dataLength())),
+                DefaultDataBufferFactory.sharedInstance.wrap(ByteBuffer.wrap(bytes, chunk.dataOffset(), chunk.dataLength()))));
+    }
+
+    private static String chunkFilename(String originalFilename, long index) {
+        String baseName = originalFilename.substring(0, originalFilename.lastIndexOf('.'));
+        return baseName + "-" + index + ".wav";
     }
 
     /**
-     * API 응답에서 텍스트 추출
+     * 조각별 결과를 원래 순서대로 이어 붙임
+     * 구간 시각은 조각 시작 시각만큼 옮기고 id는 처음부터 다시 매깁니다.
      */
-    private String extractTextFromResponse(String response) {
-        // TODO: Jackson으로 직렬화 하는게 더 좋을듯?
-        if (response != null && response.contains("\"text\"")) {
-            int textStart = response.indexOf("\"text\"") + 8;
-            int textEnd = response.indexOf("\"", textStart);
-            if (textEnd > textStart) {
-                return response.substring(textStart, textEnd);
+    private static WhisperDto.Response stitch(List<WavSilenceSplitter.Chunk> chunks,
+                                              List<Tuple2<Long, WhisperDto.Response>> results) {
+        StringJoiner text = new StringJoiner(" ");
+        List<WhisperDto.Segment> segments = null;
+        String language = null;
+        Double duration = null;
+        for (int i = 0; i < results.size(); i++) {
+            WhisperDto.Response part = results.get(i).getT2();
+            double offset = chunks.get(i).startSeconds();
+            if (!part.getText().isBlank()) {
+                text.add(part.getText().strip());
+            }
+            if (part.getSegments() != null) {
+                if (segments == null) {
+                    segments = new ArrayList<>();
+                }
+                for (WhisperDto.Segment segment : part.getSegments()) {
+                    segments.add(segment.toBuilder()
+                            .id(segments.size())
+                            .start(segment.getStart() + offset)
+                            .end(segment.getEnd() + offset)
+                            .build());
+                }
+            }
+            if (language == null) {
+                language = part.getLanguage();
+            }
+            if (part.getDuration() != null) {
+                duration = offset + part.getDuration();
             }
         }
-        throw new WhisperException(ErrorCode.WHISPER_RESPONSE_PARSING_FAILED, "API 응답에서 텍스트를 추출할 수 없습니다.");
+        return WhisperDto.Response.builder()
+                .text(text.toString())
+                .language(language)
+                .duration(duration)
+                .segments(segments)
+                .build();
+    }
+
+    /**
+     * OpenAI Whisper API 호출
+     * 응답 본문은 문자열로 모으지 않고 Jackson 디코더가 수신한 버퍼를 그대로 토큰화해 DTO로 읽습니다.
+     */
+    private Mono<WhisperDto.Response> callWhisperApi(Flux<DataBuffer> audioContent, String filename,
+                                                     MediaType contentType, String responseFormat) {
+        MultipartBodyBuilder body = new MultipartBodyBuilder();
+        body.asyncPart("file", audioContent, DataBuffer.class)
+                .filename(filename)
+                .contentType(contentType);
+        body.part("model", "whisper-1");
+        body.part("response_format", responseFormat);
+
+        return webClient.post()
+                .uri(apiUrl)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + openaiApiKey)
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromMultipartData(body.build()))
+                .retrieve()
+                .bodyToMono(WhisperDto.Response.class)
+                .filter(response -> response.getText() != null)
+                .switchIfEmpty(Mono.error(() -> new WhisperException(
+                        ErrorCode.WHISPER_RESPONSE_PARSING_FAILED, "API 응답에서 텍스트를 추출할 수 없습니다.")))
+                .onErrorMap(DecodingException.class, e -> {
+                    log.error("Whisper 응답 파싱 실패: {}", e.getMessage());
+                    return new WhisperException(ErrorCode.WHISPER_RESPONSE_PARSING_FAILED, "API 응답에서 텍스트를 추출할 수 없습니다.", e);
+                })
+                .onErrorMap(e -> !(e instanceof WhisperException), e -> {
+                    log.error("Whisper API 호출 실패: {}", e.getMessage());
+                    return new WhisperException(ErrorCode.EXTERNAL_API_ERROR, "Whisper API 호출 중 오류가 발생했습니다.", e);
+                });
+    }
+
+    private static long millisSince(long startedAtNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+    }
+
+    private MediaType audioContentType(MultipartFile audioFile) {
+        try {
+            return audioFile.getContentType() != null
+                    ? MediaType.parseMediaType(audioFile.getContentType())
+                    : MediaType.APPLICATION_OCTET_STREAM;
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
     }
 
     /**
@@ -134,32 +400,11 @@ public class WhisperService {
             throw new IllegalArgumentException("지원하지 않는 오디오 형식입니다. 지원 형식: mp3, mp4, mpeg, mpga, m4a, wav, webm");
         }
 
-        long maxSize = 25 * 1024 * 1024; // 25MB
-        if (audioFile.getSize() > maxSize) {
+        if (audioFile.getSize() > MAX_FILE_SIZE) {
             throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 25MB까지 지원합니다.");
         }
     }
 
-    /**
-     * 임시 파일로 저장
-     */
-    private Path saveToTempFile(MultipartFile audioFile) throws IOException {
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        String originalFilename = audioFile.getOriginalFilename();
-        String fileExtension = getFileExtension(originalFilename);
-        String uniqueFilename = generateUniqueFilename(fileExtension);
-        
-        Path filePath = uploadPath.resolve(uniqueFilename);
-        
-        Files.copy(audioFile.getInputStream(), filePath);
-        
-        return filePath;
-    }
-
     /**
      * 파일 확장자 추출
      */
@@ -180,13 +425,4 @@ public class WhisperService {
         }
         return false;
     }
-
-    /**
-     * 고유한 파일명 생성
-     */
-    private String generateUniqueFilename(String extension) {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-        return String.format("audio_%s_%s.%s", timestamp, uuid, extension);
-    }
 }
@@ -0,0 +1,207 @@
+package toock.backend.interview.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import toock.backend.auth.filter.JwtHandshakeInterceptor;
+import toock.backend.global.error.ErrorCode;
+import toock.backend.infra.s3.S3Service;
+import toock.backend.infra.whisper.exception.WhisperException;
+import toock.backend.infra.whisper.service.StreamingTranscription;
+import toock.backend.infra.whisper.service.WhisperService;
+import toock.backend.interview.dto.InterviewDto;
+import toock.backend.interview.service.InterviewService;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 답변 음성을 말하는 동안 받아 실시간으로 변환하는 웹소켓 엔드포인트 (/ws/interviews/answer?interviewSessionId=)
+ * 클라이언트는 16비트 모노 PCM을 바이너리 메시지로 보내고, 답변이 끝나면 {"type":"END"}를 보냅니다.
+ * 서버는 PARTIAL(부분 변환), FINAL(최종 답변), NEXT(다음 질문) 순서로 응답한 뒤 연결을 닫습니다.
+ * 최종 답변이 준비되면 /interviews/next와 같은 흐름으로 바로 다음 질문을 생성합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterviewAnswerStreamHandler extends AbstractWebSocketHandler {
+
+    private static final String INTERVIEW_SESSION_ID_PARAM = "interviewSessionId";
+    private static final String AUDIO_FOLDER = "interview-audio";
+
+    // 클라이언트가 한 번에 보내는 PCM 프레임의 최대 크기
+    private static final int MAX_BINARY_MESSAGE_SIZE = 256 * 1024;
+    private static final int SEND_TIME_LIMIT_MILLIS = 10_000;
+    private static final int SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+
+    private final InterviewService interviewService;
+    private final WhisperService whisperService;
+    private final S3Service s3Service;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, AnswerStream> streams = new ConcurrentHashMap<>();
+
+    private record AnswerStream(WebSocketSession session, Long memberId, Long interviewSessionId,
+                                StreamingTranscription transcription, AtomicBoolean finished) {
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Long interviewSessionId = interviewSessionId(session);
+        if (interviewSessionId == null) {
+            session.close(CloseStatus.BAD_DATA.withReason("interviewSessionId가 필요합니다."));
+            return;
+        }
+        session.setBinaryMessageSizeLimit(MAX_BINARY_MESSAGE_SIZE);
+
+        // 부분 결과는 Reactor 스레드에서 보내므로 전송을 직렬화하는 데코레이터로 감쌈
+        WebSocketSession concurrentSession =
+                new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MILLIS, SEND_BUFFER_SIZE_LIMIT);
+        AtomicBoolean finished = new AtomicBoolean();
+        StreamingTranscription transcription = whisperService.openStream(text -> {
+            if (!finished.get()) {
+                send(concurrentSession, InterviewDto.AnswerStreamMessage.partial(text));
+            }
+        });
+        Long memberId = (Long) session.getAttributes().get(JwtHandshakeInterceptor.MEMBER_ID_ATTRIBUTE);
+        streams.put(session.getId(), new AnswerStream(concurrentSession, memberId, interviewSessionId, transcription, finished));
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        AnswerStream stream = streams.get(session.getId());
+        if (stream == null || stream.finished().get()) {
+            return;
+        }
+        try {
+            stream.transcription().append(message.getPayload());
+        } catch (IllegalStateException e) {
+            fail(stream, e);
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        AnswerStream stream = streams.get(session.getId());
+        if (stream == null) {
+            return;
+        }
+        if (!isEndCommand(message.getPayload())) {
+            send(stream.session(), InterviewDto.AnswerStreamMessage.error(
+                    ErrorCode.INVALID_INPUT_VALUE.name(), ErrorCode.INVALID_INPUT_VALUE.getMessage()));
+            return;
+        }
+        if (stream.finished().compareAndSet(false, true)) {
+            finish(stream);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        AnswerStream stream = streams.remove(session.getId());
+        if (stream != null && !stream.finished().get()) {
+            log.info("답변 스트리밍이 끝나기 전에 연결 종료: interviewSessionId={}, status={}", stream.interviewSessionId(), status);
+            stream.transcription().cancel();
+        }
+    }
+
+    /**
+     * 남은 꼬리 구간 변환과 녹음 업로드를 함께 진행하고, 둘 다 끝나면 곧바로 다음 질문을 요청합니다.
+     */
+    private void finish(AnswerStream stream) {
+        StreamingTranscription transcription = stream.transcription();
+        Mono<String> answer = transcription.finish()
+                .doOnNext(text -> send(stream.session(), InterviewDto.AnswerStreamMessage.answer(text)));
+        Mono<String> s3Url = Mono.fromCallable(() -> s3Service.uploadAudio(
+                        transcription.recordingAsWav(), ".wav", "audio/wav", AUDIO_FOLDER))
+                .subscribeOn(Schedulers.boundedElastic());
+
+        Mono.zip(answer, s3Url)
+                .flatMap(result -> {
+                    InterviewDto.NextRequest request = new InterviewDto.NextRequest();
+                    request.setInterviewSessionId(stream.interviewSessionId());
+                    request.setAnswerText(result.getT1());
+                    request.setS3Url(result.getT2());
+                    return interviewService.nextQuestion(request, stream.memberId());
+                })
+                .subscribe(next -> {
+                    send(stream.session(), InterviewDto.AnswerStreamMessage.next(next));
+                    close(stream.session(), CloseStatus.NORMAL);
+                }, e -> fail(stream, e));
+    }
+
+    private void fail(AnswerStream stream, Throwable e) {
+        stream.finished().set(true);
+        stream.transcription().cancel();
+        ErrorCode code = errorCode(e);
+        log.warn("답변 스트리밍 실패({}): interviewSessionId={}, {}", code.name(), stream.interviewSessionId(), e.getMessage());
+        send(stream.session(), InterviewDto.AnswerStreamMessage.error(code.name(), code.getMessage()));
+        close(stream.session(), code == ErrorCode.INVALID_INPUT_VALUE ? CloseStatus.POLICY_VIOLATION : CloseStatus.SERVER_ERROR);
+    }
+
+    private boolean isEndCommand(String payload) {
+        try {
+            JsonNode command = objectMapper.readTree(payload);
+            return "END".equalsIgnoreCase(command.path("type").asText());
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    private static ErrorCode errorCode(Throwable e) {
+        if (e instanceof WhisperException whisperException && whisperException.getErrorCode() != null) {
+            return whisperException.getErrorCode();
+        }
+        if (e instanceof IllegalArgumentException || e instanceof IllegalStateException) {
+            return ErrorCode.INVALID_INPUT_VALUE;
+        }
+        if (e instanceof ObjectOptimisticLockingFailureException) {
+            return ErrorCode.INTERVIEW_CONCURRENT_UPDATE;
+        }
+        return ErrorCode.INTERNAL_SERVER_ERROR;
+    }
+
+    private void send(WebSocketSession session, InterviewDto.AnswerStreamMessage message) {
+        try {
+            session.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+        } catch (IOException | IllegalStateException e) {
+            log.warn("웹소켓 메시지 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    private static void close(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.warn("웹소켓 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private static Long interviewSessionId(WebSocketSession session) {
+        if (session.getUri() == null) {
+            return null;
+        }
+        String value = UriComponentsBuilder.fromUri(session.getUri()).build()
+                .getQueryParams().getFirst(INTERVIEW_SESSION_ID_PARAM);
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package toock.backend.interview.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 import toock.backend.infra.s3.S3Service;
 import toock.backend.infra.whisper.service.WhisperService;
 import toock.backend.interview.dto.InterviewDto;
-import toock.backend.interview.dto.InterviewAnalysisResponseDto;
+import toock.backend.interview.dto.InterviewEvaluationJobResponseDto;
+import toock.backend.interview.service.InterviewEvaluationJobService;
 import toock.backend.interview.service.InterviewService;
 import toock.backend.global.dto.CommonResponseDto;
 import toock.backend.interview.dto.InterviewResultResponseDto;
@@ -23,18 +26,19 @@ public class InterviewController {
     private final S3Service s3Service;
     private final WhisperService whisperService;
     private final InterviewResultService interviewResultService; // InterviewResultService 주입
+    private final InterviewEvaluationJobService interviewEvaluationJobService;
 
+    // Gemini 호출이 끝날 때까지 서블릿 스레드를 붙잡지 않도록 Mono를 반환해 비동기(지연) 응답으로 처리합니다.
     @PostMapping("/start")
-    public ResponseEntity<CommonResponseDto<InterviewDto.StartResponse>> startInterview(
+    public Mono<ResponseEntity<CommonResponseDto<InterviewDto.StartResponse>>> startInterview(
             @RequestBody InterviewDto.StartRequest request,
             @AuthenticationPrincipal Long memberId) {
-        InterviewDto.StartResponse response = interviewService.startInterview(request, memberId);
-
-        return ResponseEntity.ok(CommonResponseDto.success(response));
+        return interviewService.startInterview(request, memberId)
+                .map(response -> ResponseEntity.ok(CommonResponseDto.success(response)));
     }
 
     @PostMapping("/next")
-    public ResponseEntity<CommonResponseDto<InterviewDto.NextResponse>> nextQuestion(
+    public Mono<ResponseEntity<CommonResponseDto<InterviewDto.NextResponse>>> nextQuestion(
             @RequestParam("interviewSessionId") Long interviewSessionId,
             @RequestParam("audioFile") MultipartFile audioFile,
             @AuthenticationPrincipal Long memberId
@@ -53,19 +57,21 @@ public class InterviewController {
         request.setS3Url(s3Url);
 
         // 4. 면접 로직을 처리하고 다음 질문을 받아 응답합니다.
-        return ResponseEntity.ok(CommonResponseDto.success(interviewService.nextQuestion(request,memberId)) );
+        return interviewService.nextQuestion(request, memberId)
+                .map(response -> ResponseEntity.ok(CommonResponseDto.success(response)));
     }
 
+    // 평가 작업만 등록하고 즉시 202를 반환합니다. 진행 상태는 /results/{interviewSessionId}로 조회합니다.
     @PostMapping("/analyze/{interviewSessionId}")
-    public ResponseEntity<CommonResponseDto<InterviewAnalysisResponseDto>> analyzeInterview(@PathVariable Long interviewSessionId) {
-        InterviewAnalysisResponseDto analysis = interviewService.evaluateInterview(interviewSessionId);
-        return ResponseEntity.ok(CommonResponseDto.success(analysis));
+    public ResponseEntity<CommonResponseDto<InterviewEvaluationJobResponseDto>> analyzeInterview(@PathVariable Long interviewSessionId) {
+        InterviewEvaluationJobResponseDto job = interviewEvaluationJobService.enqueue(interviewSessionId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(CommonResponseDto.success(job));
     }
 
     @GetMapping("/results/{interviewSessionId}")
-    public ResponseEntity<CommonResponseDto<InterviewAnalysisResponseDto>> getInterviewResult(@PathVariable Long interviewSessionId) {
-        InterviewAnalysisResponseDto analysis = interviewService.getInterviewAnalysis(interviewSessionId);
-        return ResponseEntity.ok(CommonResponseDto.success(analysis));
+    public ResponseEntity<CommonResponseDto<InterviewEvaluationJobResponseDto>> getInterviewResult(@PathVariable Long interviewSessionId) {
+        InterviewEvaluationJobResponseDto job = interviewEvaluationJobService.getStatus(interviewSessionId);
+        return ResponseEntity.ok(CommonResponseDto.success(job));
     }
 
     @GetMapping("/results/details/{interviewSessionId}")
@@ -0,0 +1,8 @@
+package toock.backend.interview.domain;
+
+public enum EvaluationJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
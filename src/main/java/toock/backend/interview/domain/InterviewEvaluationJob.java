@@ -0,0 +1,113 @@
+package toock.backend.interview.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Entity
+@Table(name = "interview_evaluation_job",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_evaluation_job_session", columnNames = {"interview_session_id"})
+        },
+        indexes = {
+                @Index(name = "idx_evaluation_job_status_next_attempt", columnList = "status, next_attempt_at")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InterviewEvaluationJob {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "interview_session_id", nullable = false)
+    private Long interviewSessionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EvaluationJobStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column
+    private OffsetDateTime updatedAt;
+
+    // 여러 워커(인스턴스)가 같은 작업을 동시에 가져가지 않도록 낙관적 락 사용
+    @Version
+    private Long version;
+
+    private InterviewEvaluationJob(Long interviewSessionId, EvaluationJobStatus status) {
+        OffsetDateTime now = OffsetDateTime.now();
+        this.interviewSessionId = interviewSessionId;
+        this.status = status;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    public static InterviewEvaluationJob pending(Long interviewSessionId) {
+        return new InterviewEvaluationJob(interviewSessionId, EvaluationJobStatus.PENDING);
+    }
+
+    public static InterviewEvaluationJob done(Long interviewSessionId) {
+        return new InterviewEvaluationJob(interviewSessionId, EvaluationJobStatus.DONE);
+    }
+
+    // 워커가 작업을 가져갈 때 호출
+    public void start() {
+        this.status = EvaluationJobStatus.RUNNING;
+        this.attempts++;
+        this.updatedAt = OffsetDateTime.now();
+    }
+
+    public void complete() {
+        this.status = EvaluationJobStatus.DONE;
+        this.lastError = null;
+        this.updatedAt = OffsetDateTime.now();
+    }
+
+    /**
+     * 실패를 기록합니다. 재시도 가능하고 최대 시도 횟수에 도달하지 않았다면 retryAt 이후 다시 실행되도록 대기 상태로 돌립니다.
+     */
+    public void fail(String error, boolean retryable, int maxAttempts, OffsetDateTime retryAt) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (retryable && attempts < maxAttempts) {
+            this.status = EvaluationJobStatus.PENDING;
+            this.nextAttemptAt = retryAt;
+        } else {
+            this.status = EvaluationJobStatus.FAILED;
+        }
+        this.updatedAt = OffsetDateTime.now();
+    }
+
+    // 재시도까지 모두 실패한 작업을 사용자가 다시 평가 요청했을 때 호출. 시도 횟수를 초기화해 처음부터 다시 재시도함
+    public void retry() {
+        this.status = EvaluationJobStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = OffsetDateTime.now();
+        this.updatedAt = OffsetDateTime.now();
+    }
+
+    // 서버 재시작 등으로 중단된 작업을 다시 대기열에 넣을 때 호출
+    public void requeue() {
+        this.status = EvaluationJobStatus.PENDING;
+        this.nextAttemptAt = OffsetDateTime.now();
+        this.updatedAt = OffsetDateTime.now();
+    }
+}
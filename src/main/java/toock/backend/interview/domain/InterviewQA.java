@@ -41,6 +41,10 @@ public class InterviewQA {
     @Column(length = 500)
     private String s3Url;
 
+    // 같은 질문에 대한 동시 답변 저장을 감지하기 위한 낙관적 락
+    @Version
+    private Long version;
+
     @Builder
     public InterviewQA(InterviewSession interviewSession, Integer questionOrder, Integer followUpOrder, String questionText) {
         this.interviewSession = interviewSession;
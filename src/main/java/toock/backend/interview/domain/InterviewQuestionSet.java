@@ -0,0 +1,50 @@
+package toock.backend.interview.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import toock.backend.company.domain.Company;
+
+import java.time.OffsetDateTime;
+
+/**
+ * (회사, 직무 카테고리)별로 미리 생성해 둔 주요 질문 묶음.
+ * 면접 시작 시 Gemini를 호출하는 대신 여기서 꺼내 씁니다.
+ */
+@Getter
+@Entity
+@Table(name = "interview_question_set", indexes = {
+        @Index(name = "idx_question_set_company_category", columnList = "company_id, field_category")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InterviewQuestionSet {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "company_id", nullable = false)
+    private Company company;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "field_category", nullable = false, length = 50)
+    private InterviewFieldCategory fieldCategory;
+
+    // 주요 질문 목록 (JSON 배열 문자열)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String questions;
+
+    @Column(nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Builder
+    public InterviewQuestionSet(Company company, InterviewFieldCategory fieldCategory, String questions) {
+        this.company = company;
+        this.fieldCategory = fieldCategory;
+        this.questions = questions;
+        this.createdAt = OffsetDateTime.now();
+    }
+}
@@ -14,6 +14,10 @@ import java.time.OffsetDateTime;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "interview_session",
+        indexes = {
+                @Index(name = "idx_interview_session_member_started", columnList = "member_id, started_at")
+        })
 public class InterviewSession {
 
     @Id
@@ -46,6 +50,17 @@ public class InterviewSession {
     @Column
     private OffsetDateTime completedAt;
 
+    // 면접 종료 시 전체 대화로 생성한 마무리 멘트
+    @Column(columnDefinition = "TEXT")
+    private String closingRemark;
+
+    // 질문 은행에서 가져온 주요 질문 묶음 id (같은 회원에게 같은 묶음을 다시 내주지 않기 위해 기록)
+    @Column(name = "question_set_id")
+    private Long questionSetId;
+
+    @Version
+    private Long version;
+
     @Builder
     public InterviewSession(Member member,
                             Company company,
@@ -53,7 +68,8 @@ public class InterviewSession {
                             Field field,
                             String status,
                             OffsetDateTime startedAt,
-                            OffsetDateTime completedAt) {
+                            OffsetDateTime completedAt,
+                            Long questionSetId) {
         this.member = member;
         this.company = company;
         this.fieldCategory = fieldCategory;
@@ -61,11 +77,13 @@ public class InterviewSession {
         this.status = status;
         this.startedAt = startedAt;
         this.completedAt = completedAt;
+        this.questionSetId = questionSetId;
     }
 
     // 면접 종료 시 호출될 메소드
-    public void complete() {
+    public void complete(String closingRemark) {
         this.status = "COMPLETED";
+        this.closingRemark = closingRemark;
         this.completedAt = OffsetDateTime.now();
     }
 }
@@ -0,0 +1,16 @@
+package toock.backend.interview.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FollowUpDecisionResult {
+    private String verdict; // "꼬리질문 필요" 또는 "다음 질문"
+    private String followUpQuestion;
+
+    public boolean needsFollowUp() {
+        return verdict != null && verdict.contains("꼬리질문 필요")
+                && followUpQuestion != null && !followUpQuestion.isBlank();
+    }
+}
@@ -34,6 +34,9 @@ public class GeminiDto {
         @JsonProperty("candidates")
         private List<Candidate> candidates;
 
+        @JsonProperty("usageMetadata")
+        private UsageMetadata usageMetadata;
+
         // 중첩된 JSON 구조에서 최종 텍스트만 깔끔하게 추출하는 편의 메소드
         public String getGeneratedText() {
             if (candidates == null || candidates.isEmpty() || candidates.get(0).getContent() == null ||
@@ -42,10 +45,19 @@ public class GeminiDto {
             }
             return candidates.get(0).getContent().getParts().get(0).getText();
         }
+
+        // 요청+응답 전체 토큰 수 (사용량 정보가 없으면 0)
+        public int getTotalTokenCount() {
+            if (usageMetadata == null || usageMetadata.getTotalTokenCount() == null) {
+                return 0;
+            }
+            return usageMetadata.getTotalTokenCount();
+        }
     }
 
     // --- JSON 구조에 맞춘 내부 클래스들 ---
     @Getter @AllArgsConstructor private static class Content { private List<Part> parts; }
     @Getter @AllArgsConstructor private static class Part { private String text; }
     @Getter @NoArgsConstructor private static class Candidate { @JsonProperty("content") private Content content; }
+    @Getter @NoArgsConstructor private static class UsageMetadata { @JsonProperty("totalTokenCount") private Integer totalTokenCount; }
 }
\ No newline at end of file
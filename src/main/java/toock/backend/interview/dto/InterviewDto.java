@@ -1,5 +1,6 @@
 package toock.backend.interview.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -47,4 +48,38 @@ public class InterviewDto {
             this.isFinished = isFinished;
         }
     }
-}
\ No newline at end of file
+
+    // 실시간 답변 스트리밍 응답 메시지 (웹소켓)
+    // type: PARTIAL(부분 변환) / FINAL(최종 답변 텍스트) / NEXT(다음 질문) / ERROR
+    @Getter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class AnswerStreamMessage {
+        private final String type;
+        private final String text;
+        private final NextResponse next;
+        private final String code;
+
+        private AnswerStreamMessage(String type, String text, NextResponse next, String code) {
+            this.type = type;
+            this.text = text;
+            this.next = next;
+            this.code = code;
+        }
+
+        public static AnswerStreamMessage partial(String text) {
+            return new AnswerStreamMessage("PARTIAL", text, null, null);
+        }
+
+        public static AnswerStreamMessage answer(String text) {
+            return new AnswerStreamMessage("FINAL", text, null, null);
+        }
+
+        public static AnswerStreamMessage next(NextResponse next) {
+            return new AnswerStreamMessage("NEXT", null, next, null);
+        }
+
+        public static AnswerStreamMessage error(String code, String message) {
+            return new AnswerStreamMessage("ERROR", message, null, code);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package toock.backend.interview.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import toock.backend.interview.domain.EvaluationJobStatus;
+
+@Getter
+@Builder
+public class InterviewEvaluationJobResponseDto {
+    private Long jobId;
+    private Long interviewSessionId;
+    private EvaluationJobStatus status;
+    private int attempts;
+    private InterviewAnalysisResponseDto result; // status가 DONE일 때만 채워짐
+}
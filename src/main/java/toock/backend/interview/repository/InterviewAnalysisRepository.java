@@ -7,28 +7,38 @@ import org.springframework.stereotype.Repository;
 import toock.backend.interview.domain.InterviewAnalysis;
 
 import java.time.OffsetDateTime;
-import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InterviewAnalysisRepository extends JpaRepository<InterviewAnalysis, Long> {
     Optional<InterviewAnalysis> findByInterviewSessionId(Long interviewSessionId);
 
-    List<InterviewAnalysis> findByInterviewSessionIdIn(List<Long> interviewSessionIds);
-
     /**
-     * 특정 사용자의 특정 기간 내에 시작된 면접 중 분석이 완료된 면접의 수를 계산합니다.
+     * 특정 사용자의 분석 완료 면접 수, 평균/최고 점수와 주어진 기간에 시작된 분석 완료 면접 수를 한 번에 집계합니다.
      * @param memberId 사용자의 ID
      * @param startOfWeek 주의 시작 시간
      * @param endOfWeek 주의 종료 시간
-     * @return 분석 완료된 면접 수
+     * @return 집계 결과 (분석 결과가 없으면 평균/최고 점수와 주간 횟수는 null)
      */
-    @Query("SELECT COUNT(ia) FROM InterviewAnalysis ia " +
+    @Query("SELECT COUNT(ia.id) AS totalInterviews, SUM(ia.score) AS scoreSum, AVG(ia.score) AS averageScore, MAX(ia.score) AS bestScore, " +
+           "SUM(CASE WHEN s.startedAt BETWEEN :startOfWeek AND :endOfWeek THEN 1 ELSE 0 END) AS interviewsThisWeek " +
+           "FROM InterviewAnalysis ia " +
            "JOIN ia.interviewSession s " +
-           "WHERE s.member.id = :memberId " +
-           "AND s.startedAt BETWEEN :startOfWeek AND :endOfWeek")
-    long countAnalyzedInterviewsByMemberAndDateRange(
+           "WHERE s.member.id = :memberId")
+    MemberStatisticsRow aggregateStatisticsByMember(
             @Param("memberId") Long memberId,
             @Param("startOfWeek") OffsetDateTime startOfWeek,
             @Param("endOfWeek") OffsetDateTime endOfWeek);
+
+    interface MemberStatisticsRow {
+        Long getTotalInterviews();
+
+        Long getScoreSum();
+
+        Double getAverageScore();
+
+        Integer getBestScore();
+
+        Long getInterviewsThisWeek();
+    }
 }
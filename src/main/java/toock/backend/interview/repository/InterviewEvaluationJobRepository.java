@@ -0,0 +1,24 @@
+package toock.backend.interview.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import toock.backend.interview.domain.EvaluationJobStatus;
+import toock.backend.interview.domain.InterviewEvaluationJob;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface InterviewEvaluationJobRepository extends JpaRepository<InterviewEvaluationJob, Long> {
+
+    Optional<InterviewEvaluationJob> findByInterviewSessionId(Long interviewSessionId);
+
+    boolean existsByInterviewSessionId(Long interviewSessionId);
+
+    // 실행 시각이 도래한 대기 작업을 오래된 순으로 조회
+    List<InterviewEvaluationJob> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            EvaluationJobStatus status, OffsetDateTime now, Limit limit);
+
+    // 마지막 갱신 이후 오래 지난 작업 조회 (워커가 중단되어 실행 중으로 남은 작업)
+    List<InterviewEvaluationJob> findByStatusAndUpdatedAtBefore(EvaluationJobStatus status, OffsetDateTime updatedAt);
+}
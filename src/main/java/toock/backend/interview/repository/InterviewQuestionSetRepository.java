@@ -0,0 +1,48 @@
+package toock.backend.interview.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import toock.backend.interview.domain.InterviewFieldCategory;
+import toock.backend.interview.domain.InterviewQuestionSet;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface InterviewQuestionSetRepository extends JpaRepository<InterviewQuestionSet, Long> {
+
+    // 해당 회원이 아직 받아보지 않은 질문 묶음을 최신순으로 조회
+    @Query("""
+        SELECT qs FROM InterviewQuestionSet qs
+        WHERE qs.company.id = :companyId
+          AND qs.fieldCategory = :fieldCategory
+          AND qs.id NOT IN (
+              SELECT s.questionSetId FROM InterviewSession s
+              WHERE s.member.id = :memberId AND s.questionSetId IS NOT NULL
+          )
+        ORDER BY qs.id DESC
+        """)
+    List<InterviewQuestionSet> findUnusedByMember(@Param("companyId") Long companyId,
+                                                  @Param("fieldCategory") InterviewFieldCategory fieldCategory,
+                                                  @Param("memberId") Long memberId,
+                                                  Limit limit);
+
+    long countByCompany_IdAndFieldCategoryAndCreatedAtAfter(Long companyId, InterviewFieldCategory fieldCategory, OffsetDateTime createdAt);
+
+    @Query("SELECT DISTINCT qs.company.id AS companyId, qs.company.name AS companyName, qs.fieldCategory AS fieldCategory FROM InterviewQuestionSet qs")
+    List<QuestionBankKey> findDistinctKeys();
+
+    @Modifying
+    @Query("DELETE FROM InterviewQuestionSet qs WHERE qs.createdAt < :createdAt")
+    int deleteCreatedBefore(@Param("createdAt") OffsetDateTime createdAt);
+
+    interface QuestionBankKey {
+        Long getCompanyId();
+
+        String getCompanyName();
+
+        InterviewFieldCategory getFieldCategory();
+    }
+}
@@ -1,7 +1,12 @@
 package toock.backend.interview.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import toock.backend.interview.domain.InterviewFieldCategory;
 import toock.backend.interview.domain.InterviewSession;
+import toock.backend.member.domain.Field;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -10,4 +15,48 @@ public interface InterviewSessionRepository extends JpaRepository<InterviewSessi
     List<InterviewSession> findByMemberId(Long memberId);
 
     long countByMemberIdAndStartedAtBetween(Long memberId, OffsetDateTime start, OffsetDateTime end);
-}
\ No newline at end of file
+
+    // 회사 이름, 분석 점수, 질문 수를 한 번의 쿼리로 모아 최신순으로 조회 (첫 페이지)
+    @Query("""
+            SELECT s.id AS interviewSessionId, s.company.name AS companyName, s.fieldCategory AS fieldCategory,
+                   s.field AS field, s.startedAt AS startedAt, ia.score AS score,
+                   (SELECT COUNT(qa.id) FROM InterviewQA qa WHERE qa.interviewSession = s) AS questionCount
+            FROM InterviewSession s
+            LEFT JOIN InterviewAnalysis ia ON ia.interviewSession = s
+            WHERE s.member.id = :memberId
+            ORDER BY s.startedAt DESC, s.id DESC
+            """)
+    List<InterviewHistoryRow> findHistoriesByMemberId(@Param("memberId") Long memberId, Limit limit);
+
+    // (startedAt, id) 커서 이후 페이지. (member_id, started_at) 인덱스를 따라 커서 위치부터 limit개만 읽음
+    @Query("""
+            SELECT s.id AS interviewSessionId, s.company.name AS companyName, s.fieldCategory AS fieldCategory,
+                   s.field AS field, s.startedAt AS startedAt, ia.score AS score,
+                   (SELECT COUNT(qa.id) FROM InterviewQA qa WHERE qa.interviewSession = s) AS questionCount
+            FROM InterviewSession s
+            LEFT JOIN InterviewAnalysis ia ON ia.interviewSession = s
+            WHERE s.member.id = :memberId
+              AND (s.startedAt < :cursorStartedAt OR (s.startedAt = :cursorStartedAt AND s.id < :cursorId))
+            ORDER BY s.startedAt DESC, s.id DESC
+            """)
+    List<InterviewHistoryRow> findHistoriesByMemberIdBefore(@Param("memberId") Long memberId,
+                                                            @Param("cursorStartedAt") OffsetDateTime cursorStartedAt,
+                                                            @Param("cursorId") Long cursorId,
+                                                            Limit limit);
+
+    interface InterviewHistoryRow {
+        Long getInterviewSessionId();
+
+        String getCompanyName();
+
+        InterviewFieldCategory getFieldCategory();
+
+        Field getField();
+
+        OffsetDateTime getStartedAt();
+
+        Integer getScore();
+
+        Long getQuestionCount();
+    }
+}
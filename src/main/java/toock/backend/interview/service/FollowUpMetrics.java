@@ -0,0 +1,50 @@
+package toock.backend.interview.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 꼬리질문 결정 방식별 지연 시간과, 추측(SPECULATIVE) 실행으로 절약한 시간/낭비한 토큰을 기록합니다.
+ */
+@Component
+public class FollowUpMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer speculativeSaved;
+    private final Counter speculativeDiscarded;
+    private final Counter speculativeWastedTokens;
+
+    public FollowUpMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.speculativeSaved = Timer.builder("interview.follow-up.speculative.saved")
+                .description("추측 실행으로 단축된 꼬리질문 대기 시간")
+                .register(meterRegistry);
+        this.speculativeDiscarded = Counter.builder("interview.follow-up.speculative.discarded")
+                .description("'다음 질문' 판정으로 버려진 꼬리질문 생성 횟수")
+                .register(meterRegistry);
+        this.speculativeWastedTokens = Counter.builder("interview.follow-up.speculative.wasted.tokens")
+                .description("버려진 꼬리질문 생성에 사용된 토큰 수")
+                .register(meterRegistry);
+    }
+
+    public void recordDecisionLatency(FollowUpStrategy strategy, Duration latency) {
+        Timer.builder("interview.follow-up.latency")
+                .description("답변 이후 꼬리질문 여부 결정까지 걸린 시간")
+                .tag("strategy", strategy.name())
+                .register(meterRegistry)
+                .record(latency);
+    }
+
+    public void recordSpeculativeSaved(Duration saved) {
+        speculativeSaved.record(saved);
+    }
+
+    public void recordSpeculativeDiscarded(int wastedTokens) {
+        speculativeDiscarded.increment();
+        speculativeWastedTokens.increment(wastedTokens);
+    }
+}
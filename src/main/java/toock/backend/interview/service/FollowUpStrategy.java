@@ -0,0 +1,14 @@
+package toock.backend.interview.service;
+
+/**
+ * 답변 이후 꼬리질문 여부를 결정하고 생성하는 방식.
+ * 배포 환경별로 {@code interview.follow-up.strategy} 값으로 선택합니다.
+ */
+public enum FollowUpStrategy {
+    // 답변 평가 → (필요 시) 꼬리질문 생성을 순차적으로 호출
+    SEQUENTIAL,
+    // 답변 평가와 꼬리질문 생성을 동시에 호출하고, "다음 질문" 판정 시 꼬리질문은 버림
+    SPECULATIVE,
+    // 판정과 꼬리질문을 JSON으로 함께 받는 단일 호출
+    COMBINED
+}
@@ -12,6 +12,9 @@ import reactor.core.publisher.Mono;
 @Service
 public class GeminiService {
 
+    public static final String API_FAILURE_MESSAGE = "API 호출에 실패했습니다. 잠시 후 다시 시도해주세요.";
+    public static final String UNKNOWN_ERROR_MESSAGE = "알 수 없는 오류가 발생했습니다.";
+
     private final WebClient webClient;
     private final String apiKey;
 
@@ -21,33 +24,51 @@ public class GeminiService {
     }
 
     /**
-     * 프롬프트를 받아 Gemini API를 호출하고, 생성된 텍스트 응답을 반환합니다.
+     * 프롬프트를 받아 Gemini API를 호출하고, 생성된 텍스트 응답을 비동기로 반환합니다.
+     * 호출 스레드를 블로킹하지 않으며, 호출 실패 시에는 안내 문구로 대체됩니다.
      * @param prompt Gemini API에 전달할 전체 프롬프트 문자열
-     * @return 생성된 질문 또는 답변 텍스트
+     * @return 생성된 질문 또는 답변 텍스트를 발행하는 Mono
+     */
+    public Mono<String> generateQuestion(String prompt) {
+        return generateContent(prompt)
+                .map(response -> response.getGeneratedText().trim()) // 응답 양 끝의 공백 제거
+                .defaultIfEmpty(UNKNOWN_ERROR_MESSAGE)
+                .onErrorResume(e -> {
+                    log.error("Gemini API 호출 중 오류 발생: {}", e.getMessage());
+                    return Mono.just(API_FAILURE_MESSAGE);
+                });
+    }
+
+    /**
+     * Gemini API 원본 응답을 그대로 발행합니다. 오류는 호출자에게 전파됩니다.
      */
-    public String generateQuestion(String prompt) {
+    public Mono<GeminiDto.Response> generateContent(String prompt) {
         GeminiDto.Request requestBody = GeminiDto.Request.from(prompt);
 
-        try {
-            GeminiDto.Response response = webClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            // 최신 모델인 gemini-1.5-flash 사용
-                            .path("/v1beta/models/gemini-2.0-flash:generateContent")
-                            .queryParam("key", apiKey)
-                            .build())
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(GeminiDto.Response.class)
-                    .block(); // 비동기 호출을 동기 방식으로 기다립니다.
-
-            if (response != null) {
-                return response.getGeneratedText().trim(); // 응답 양 끝의 공백 제거
-            }
-        } catch (Exception e) {
-            log.error("Gemini API 호출 중 오류 발생: {}", e.getMessage());
-            return "API 호출에 실패했습니다. 잠시 후 다시 시도해주세요.";
+        return webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/v1beta/models/gemini-2.0-flash:generateContent")
+                        .queryParam("key", apiKey)
+                        .build())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(GeminiDto.Response.class);
+    }
+
+    /**
+     * Gemini가 JSON 응답을 마크다운 코드 블록(```json ... ```)으로 감싸 보낸 경우 이를 제거합니다.
+     */
+    public static String stripCodeFence(String rawResponse) {
+        String sanitized = rawResponse.trim();
+        if (sanitized.startsWith("```json")) {
+            sanitized = sanitized.substring(7);
+        } else if (sanitized.startsWith("```")) {
+            sanitized = sanitized.substring(3);
+        }
+        if (sanitized.endsWith("```")) {
+            sanitized = sanitized.substring(0, sanitized.length() - 3);
         }
-        return "알 수 없는 오류가 발생했습니다.";
+        return sanitized.trim();
     }
-}
\ No newline at end of file
+}
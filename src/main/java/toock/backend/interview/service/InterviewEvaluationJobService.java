@@ -0,0 +1,223 @@
+package toock.backend.interview.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import toock.backend.interview.domain.EvaluationJobStatus;
+import toock.backend.interview.domain.InterviewEvaluationJob;
+import toock.backend.interview.dto.InterviewAnalysisResponseDto;
+import toock.backend.interview.dto.InterviewEvaluationJobResponseDto;
+import toock.backend.interview.repository.InterviewAnalysisRepository;
+import toock.backend.interview.repository.InterviewEvaluationJobRepository;
+import toock.backend.interview.repository.InterviewSessionRepository;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 면접 평가를 DB에 저장된 작업 대기열로 처리합니다.
+ * 요청은 작업만 등록하고 바로 반환하며, 고정 크기 워커 풀이 대기 작업을 가져가 Gemini 평가를 수행합니다.
+ * 실패한 작업은 지수 백오프로 재시도합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewEvaluationJobService {
+
+    private final InterviewEvaluationJobRepository jobRepository;
+    private final InterviewSessionRepository interviewSessionRepository;
+    private final InterviewAnalysisRepository interviewAnalysisRepository;
+    private final InterviewService interviewService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicInteger runningJobs = new AtomicInteger();
+    private ThreadPoolTaskExecutor workerPool;
+
+    @Value("${interview.evaluation.workers:4}")
+    private int workers = 4;
+
+    @Value("${interview.evaluation.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${interview.evaluation.backoff-ms:2000}")
+    private long backoffMillis = 2000;
+
+    @Value("${interview.evaluation.timeout-seconds:120}")
+    private long timeoutSeconds = 120;
+
+    // 실행 중 상태로 이 시간(초) 넘게 갱신이 없으면 워커가 중단된 것으로 보고 다시 대기열에 넣음. timeout-seconds보다 길어야 함
+    @Value("${interview.evaluation.stale-after-seconds:300}")
+    private long staleAfterSeconds = 300;
+
+    @PostConstruct
+    void startWorkerPool() {
+        workerPool = new ThreadPoolTaskExecutor();
+        workerPool.setCorePoolSize(workers);
+        workerPool.setMaxPoolSize(workers);
+        workerPool.setQueueCapacity(workers);
+        workerPool.setThreadNamePrefix("evaluation-worker-");
+        workerPool.setWaitForTasksToCompleteOnShutdown(true);
+        workerPool.setAwaitTerminationSeconds(30);
+        workerPool.initialize();
+    }
+
+    @PreDestroy
+    void stopWorkerPool() {
+        workerPool.shutdown();
+    }
+
+    /**
+     * 면접 평가 작업을 등록합니다. 이미 등록된 작업이 있으면 그 작업을 반환하되,
+     * 재시도까지 모두 실패한 작업은 분석 결과가 없으면 다시 대기 상태로 돌려 처음부터 재시도합니다.
+     */
+    public InterviewEvaluationJobResponseDto enqueue(Long interviewSessionId) {
+        try {
+            return transactionTemplate.execute(status -> {
+                if (!interviewSessionRepository.existsById(interviewSessionId)) {
+                    throw new IllegalArgumentException("세션을 찾을 수 없습니다. ID: " + interviewSessionId);
+                }
+                InterviewEvaluationJob job = jobRepository.findByInterviewSessionId(interviewSessionId).orElse(null);
+                if (job == null) {
+                    job = jobRepository.save(interviewAnalysisRepository.findByInterviewSessionId(interviewSessionId).isPresent()
+                            ? InterviewEvaluationJob.done(interviewSessionId)
+                            : InterviewEvaluationJob.pending(interviewSessionId));
+                } else if (job.getStatus() == EvaluationJobStatus.FAILED) {
+                    if (interviewAnalysisRepository.findByInterviewSessionId(interviewSessionId).isPresent()) {
+                        job.complete();
+                    } else {
+                        job.retry();
+                    }
+                }
+                return toResponseDto(job, null);
+            });
+        } catch (DataIntegrityViolationException | ObjectOptimisticLockingFailureException e) {
+            // 동시에 같은 세션으로 등록(재시도) 요청이 들어온 경우 먼저 반영된 작업을 반환
+            return getStatus(interviewSessionId);
+        }
+    }
+
+    /**
+     * 면접 평가 진행 상태를 조회합니다. 평가가 끝났다면 결과를 함께 반환합니다.
+     */
+    public InterviewEvaluationJobResponseDto getStatus(Long interviewSessionId) {
+        return transactionTemplate.execute(status -> {
+            InterviewEvaluationJob job = jobRepository.findByInterviewSessionId(interviewSessionId).orElse(null);
+            boolean analyzed = interviewAnalysisRepository.findByInterviewSessionId(interviewSessionId).isPresent();
+            if (job == null && !analyzed) {
+                throw new IllegalArgumentException("면접 분석을 찾을 수 없습니다. ID: " + interviewSessionId);
+            }
+            InterviewAnalysisResponseDto result = analyzed ? interviewService.getInterviewAnalysis(interviewSessionId) : null;
+            if (job == null) {
+                // 작업 대기열 도입 이전에 분석된 세션
+                return InterviewEvaluationJobResponseDto.builder()
+                        .interviewSessionId(interviewSessionId)
+                        .status(EvaluationJobStatus.DONE)
+                        .result(result)
+                        .build();
+            }
+            return toResponseDto(job, result);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${interview.evaluation.poll-interval-ms:1000}")
+    public void dispatchPendingJobs() {
+        int capacity = workers - runningJobs.get();
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<InterviewEvaluationJob> claimedJobs;
+        try {
+            claimedJobs = transactionTemplate.execute(status -> {
+                List<InterviewEvaluationJob> jobs = jobRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                        EvaluationJobStatus.PENDING, OffsetDateTime.now(), Limit.of(capacity));
+                jobs.forEach(InterviewEvaluationJob::start);
+                return jobs;
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.debug("다른 워커가 먼저 평가 작업을 가져갔습니다. 다음 주기에 다시 시도합니다.");
+            return;
+        }
+
+        for (InterviewEvaluationJob job : claimedJobs) {
+            runningJobs.incrementAndGet();
+            workerPool.execute(() -> {
+                try {
+                    process(job.getId(), job.getInterviewSessionId());
+                } finally {
+                    runningJobs.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * 워커가 중단되어 실행 중 상태로 남은 작업을 다시 대기열에 넣습니다.
+     * 다른 인스턴스에서 아직 실행 중인 작업은 건드리지 않도록, 워커 제한 시간보다 오래 갱신되지 않은 작업만 대상으로 합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${interview.evaluation.stale-check-interval-ms:60000}",
+            initialDelayString = "${interview.evaluation.stale-check-interval-ms:60000}")
+    public void requeueStaleJobs() {
+        OffsetDateTime staleBefore = OffsetDateTime.now().minusSeconds(Math.max(staleAfterSeconds, timeoutSeconds));
+        Integer requeued;
+        try {
+            requeued = transactionTemplate.execute(status -> {
+                List<InterviewEvaluationJob> stale = jobRepository.findByStatusAndUpdatedAtBefore(EvaluationJobStatus.RUNNING, staleBefore);
+                stale.forEach(InterviewEvaluationJob::requeue);
+                return stale.size();
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.debug("중단된 작업을 확인하는 동안 다른 워커가 작업 상태를 바꿨습니다. 다음 주기에 다시 확인합니다.");
+            return;
+        }
+        if (requeued != null && requeued > 0) {
+            log.info("중단된 면접 평가 작업 {}건을 다시 대기열에 넣었습니다.", requeued);
+        }
+    }
+
+    // 워커 스레드에서 실행되며, Gemini 호출 중에는 DB 트랜잭션을 열어두지 않습니다.
+    private void process(Long jobId, Long interviewSessionId) {
+        try {
+            interviewService.evaluateInterview(interviewSessionId).block(Duration.ofSeconds(timeoutSeconds));
+            transactionTemplate.executeWithoutResult(status ->
+                    jobRepository.findById(jobId).ifPresent(InterviewEvaluationJob::complete));
+            log.info("면접 평가 작업 완료: job_id={}, session_id={}", jobId, interviewSessionId);
+        } catch (Exception e) {
+            boolean retryable = !(e instanceof IllegalArgumentException);
+            log.warn("면접 평가 작업 실패: job_id={}, session_id={}, retryable={}, {}", jobId, interviewSessionId, retryable, e.getMessage());
+            transactionTemplate.executeWithoutResult(status ->
+                    jobRepository.findById(jobId).ifPresent(job ->
+                            job.fail(e.getMessage(), retryable, maxAttempts, nextAttemptAt(job.getAttempts()))));
+        }
+    }
+
+    // 시도 횟수에 따라 backoff, 2*backoff, 4*backoff ... 후에 재시도
+    private OffsetDateTime nextAttemptAt(int attempts) {
+        long delay = backoffMillis * (1L << Math.min(Math.max(attempts - 1, 0), 10));
+        return OffsetDateTime.now().plus(Duration.ofMillis(delay));
+    }
+
+    private InterviewEvaluationJobResponseDto toResponseDto(InterviewEvaluationJob job, InterviewAnalysisResponseDto result) {
+        return InterviewEvaluationJobResponseDto.builder()
+                .jobId(job.getId())
+                .interviewSessionId(job.getInterviewSessionId())
+                .status(job.getStatus())
+                .attempts(job.getAttempts())
+                .result(result)
+                .build();
+    }
+}
@@ -0,0 +1,208 @@
+package toock.backend.interview.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import toock.backend.company.repository.CompanyRepository;
+import toock.backend.company.service.CompanyReviewContextCache;
+import toock.backend.interview.domain.InterviewFieldCategory;
+import toock.backend.interview.domain.InterviewQuestionSet;
+import toock.backend.interview.repository.InterviewQuestionSetRepository;
+import toock.backend.interview.repository.InterviewQuestionSetRepository.QuestionBankKey;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * (회사, 직무 카테고리)별 주요 질문 은행을 관리합니다.
+ * 면접 시작 시에는 회원이 아직 받지 않은 질문 묶음을 DB에서 꺼내 쓰고, 없을 때만 Gemini로 생성해 은행에 적립합니다.
+ * 주기적으로 오래된 묶음을 정리하고 키별로 목표 개수만큼 새 묶음을 채웁니다.
+ * 채우기는 Gemini 응답을 기다리므로 스케줄러 스레드가 아닌 전용 스레드에서 실행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewQuestionBankService {
+
+    private static final int CANDIDATE_LIMIT = 10;
+    private static final int MAX_REVIEW_SAMPLES = 20;
+
+    private final InterviewQuestionSetRepository questionSetRepository;
+    private final CompanyRepository companyRepository;
+    private final CompanyReviewContextCache companyReviewContextCache;
+    private final PromptService promptService;
+    private final GeminiService geminiService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private ThreadPoolTaskExecutor refillExecutor;
+
+    // 키별로 유지할 최신 질문 묶음 수
+    @Value("${interview.question-bank.sets-per-key:5}")
+    private int setsPerKey = 5;
+
+    @Value("${interview.question-bank.max-age-hours:168}")
+    private long maxAgeHours = 168;
+
+    @Value("${interview.question-bank.generation-timeout-seconds:60}")
+    private long generationTimeoutSeconds = 60;
+
+    @PostConstruct
+    void startRefillExecutor() {
+        refillExecutor = new ThreadPoolTaskExecutor();
+        refillExecutor.setCorePoolSize(1);
+        refillExecutor.setMaxPoolSize(1);
+        refillExecutor.setQueueCapacity(0);
+        refillExecutor.setThreadNamePrefix("question-bank-");
+        refillExecutor.initialize();
+    }
+
+    @PreDestroy
+    void stopRefillExecutor() {
+        refillExecutor.shutdown();
+    }
+
+    /**
+     * 회원이 아직 받지 않은 질문 묶음 하나를 무작위로 꺼냅니다. 트랜잭션 안에서 호출해야 합니다.
+     */
+    public Optional<BankedQuestions> draw(Long companyId, InterviewFieldCategory fieldCategory, Long memberId) {
+        List<InterviewQuestionSet> candidates = questionSetRepository.findUnusedByMember(
+                companyId, fieldCategory, memberId, Limit.of(CANDIDATE_LIMIT));
+        meterRegistry.counter("interview.question-bank.draws", "result", candidates.isEmpty() ? "miss" : "hit").increment();
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        InterviewQuestionSet picked = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        return Optional.of(new BankedQuestions(picked.getId(), readQuestions(picked.getQuestions())));
+    }
+
+    /**
+     * 생성된 질문 묶음을 은행에 적립합니다. 트랜잭션 안에서 호출해야 합니다.
+     */
+    public BankedQuestions deposit(Long companyId, InterviewFieldCategory fieldCategory, List<String> questions) {
+        InterviewQuestionSet questionSet = questionSetRepository.save(InterviewQuestionSet.builder()
+                .company(companyRepository.getReferenceById(companyId))
+                .fieldCategory(fieldCategory)
+                .questions(writeQuestions(questions))
+                .build());
+        return new BankedQuestions(questionSet.getId(), questions);
+    }
+
+    /**
+     * 회사 후기 문구를 바탕으로 Gemini에 주요 질문 생성을 요청합니다.
+     */
+    public Mono<List<String>> generateMainQuestions(String contextData, InterviewFieldCategory fieldCategory) {
+        return geminiService.generateQuestion(promptService.createMainQuestionsPrompt(contextData, fieldCategory.getDbValue()))
+                .map(this::parseMainQuestions);
+    }
+
+    @Scheduled(fixedDelayString = "${interview.question-bank.refresh-interval-ms:600000}",
+            initialDelayString = "${interview.question-bank.refresh-interval-ms:600000}")
+    public void refresh() {
+        // 이전 갱신이 아직 진행 중이면 이번 주기는 건너뜀
+        if (!refilling.compareAndSet(false, true)) {
+            log.info("이전 질문 은행 갱신이 진행 중이어서 이번 주기를 건너뜁니다.");
+            return;
+        }
+        try {
+            refillExecutor.execute(() -> {
+                try {
+                    refill();
+                } finally {
+                    refilling.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refilling.set(false);
+            log.warn("질문 은행 갱신을 시작하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    // 전용 스레드에서 키별 채우기와 오래된 묶음 정리를 차례로 실행
+    void refill() {
+        OffsetDateTime staleBefore = OffsetDateTime.now().minusHours(maxAgeHours);
+        List<QuestionBankKey> keys = transactionTemplate.execute(status -> questionSetRepository.findDistinctKeys());
+
+        for (QuestionBankKey key : keys) {
+            try {
+                fill(key, staleBefore);
+            } catch (Exception e) {
+                log.warn("질문 은행 채우기 실패: company_id={}, category={}, {}", key.getCompanyId(), key.getFieldCategory(), e.getMessage());
+            }
+        }
+
+        Integer deleted = transactionTemplate.execute(status -> questionSetRepository.deleteCreatedBefore(staleBefore));
+        if (deleted != null && deleted > 0) {
+            log.info("오래된 질문 묶음 {}건을 정리했습니다.", deleted);
+        }
+    }
+
+    // Gemini 응답을 기다리는 동안에는 트랜잭션을 열어두지 않음
+    private void fill(QuestionBankKey key, OffsetDateTime staleBefore) {
+        long fresh = transactionTemplate.execute(status -> questionSetRepository.countByCompany_IdAndFieldCategoryAndCreatedAtAfter(
+                key.getCompanyId(), key.getFieldCategory(), staleBefore));
+        for (long i = fresh; i < setsPerKey; i++) {
+            String contextData = companyReviewContextCache.get(key.getCompanyName(), key.getFieldCategory())
+                    .toPrompt(MAX_REVIEW_SAMPLES);
+            List<String> questions = generateMainQuestions(contextData, key.getFieldCategory())
+                    .block(Duration.ofSeconds(generationTimeoutSeconds));
+            transactionTemplate.executeWithoutResult(status -> deposit(key.getCompanyId(), key.getFieldCategory(), questions));
+        }
+        if (fresh < setsPerKey) {
+            log.info("질문 은행 채움: company_id={}, category={}, {}건 추가", key.getCompanyId(), key.getFieldCategory(), setsPerKey - fresh);
+        }
+    }
+
+    private List<String> parseMainQuestions(String rawResponse) {
+        String cleanJson = GeminiService.stripCodeFence(rawResponse);
+        List<String> mainQuestions;
+        try {
+            mainQuestions = objectMapper.readValue(cleanJson, new TypeReference<>() {});
+        } catch (JsonProcessingException e) {
+            log.error("Gemini 응답 JSON 파싱 실패. 원본: {}, 정리 후: {}", rawResponse, cleanJson, e);
+            throw new IllegalStateException("Gemini로부터 받은 질문 형식이 올바르지 않습니다.");
+        }
+
+        if (mainQuestions.isEmpty()) {
+            throw new IllegalStateException("Gemini로부터 유효한 질문을 생성하지 못했습니다.");
+        }
+        return mainQuestions;
+    }
+
+    private List<String> readQuestions(String json) {
+        try {
+            return objectMapper.readValue(json, new TypeReference<>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 질문 묶음을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String writeQuestions(List<String> questions) {
+        try {
+            return objectMapper.writeValueAsString(questions);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("질문 묶음을 저장할 수 없습니다.", e);
+        }
+    }
+
+    public record BankedQuestions(Long questionSetId, List<String> questions) {
+    }
+}
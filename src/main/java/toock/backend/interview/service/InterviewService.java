@@ -1,33 +1,45 @@
 package toock.backend.interview.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import toock.backend.company.domain.Company;
-import toock.backend.company.domain.CompanyReview;
+import org.springframework.transaction.support.TransactionTemplate;
 import toock.backend.company.repository.CompanyRepository;
-import toock.backend.company.repository.CompanyReviewRepository;
+import toock.backend.company.service.CompanyReviewContextCache;
+import toock.backend.company.service.CompanyReviewContextCache.CompanyReviewContext;
+import toock.backend.interview.domain.InterviewEvaluationJob;
 import toock.backend.interview.domain.InterviewQA;
 import toock.backend.interview.domain.InterviewAnalysis;
 import toock.backend.interview.domain.InterviewSession;
+import toock.backend.interview.dto.FollowUpDecisionResult;
+import toock.backend.interview.dto.GeminiDto;
 import toock.backend.interview.dto.InterviewDto;
 import toock.backend.interview.dto.InterviewAnalysisResponseDto;
 import toock.backend.interview.dto.InterviewEvaluationResult;
+import toock.backend.interview.repository.InterviewEvaluationJobRepository;
 import toock.backend.interview.repository.InterviewQARepository;
 import toock.backend.interview.repository.InterviewSessionRepository;
 import toock.backend.interview.repository.InterviewAnalysisRepository;
-import toock.backend.member.domain.Member;
+import toock.backend.interview.service.InterviewQuestionBankService.BankedQuestions;
 import toock.backend.member.repository.MemberRepository;
+import toock.backend.member.service.MemberStatisticsService;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,13 +49,23 @@ public class InterviewService {
 
     private final MemberRepository memberRepository;
     private final CompanyRepository companyRepository;
-    private final CompanyReviewRepository companyReviewRepository;
+    private final CompanyReviewContextCache companyReviewContextCache;
+    private final InterviewQuestionBankService questionBankService;
     private final InterviewSessionRepository interviewSessionRepository;
     private final InterviewQARepository interviewQARepository;
     private final InterviewAnalysisRepository interviewAnalysisRepository;
+    private final InterviewEvaluationJobRepository evaluationJobRepository;
     private final PromptService promptService;
     private final GeminiService geminiService;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final FollowUpMetrics followUpMetrics;
+    private final MemberStatisticsService memberStatisticsService;
+
+    private final Map<Long, Mono<InterviewAnalysisResponseDto>> evaluationsInFlight = new ConcurrentHashMap<>();
+
+    @Value("${interview.follow-up.strategy:SEQUENTIAL}")
+    private FollowUpStrategy followUpStrategy = FollowUpStrategy.SEQUENTIAL;
 
     private static final int MAX_MAIN_QUESTIONS = 3;
     private static final int MAX_FOLLOW_UP_QUESTIONS = 1;
@@ -51,52 +73,217 @@ public class InterviewService {
 
 
 
-    @Transactional
-    public InterviewDto.StartResponse startInterview(InterviewDto.StartRequest request,Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " +memberId));
-        Company company = companyRepository.findByName(request.getCompanyName())
-                .orElseThrow(() -> new IllegalArgumentException("회사를 찾을 수 없습니다. 이름: " + request.getCompanyName()));
+    /**
+     * 면접을 시작합니다. 질문 은행에 회원이 아직 받지 않은 질문 묶음이 있으면 DB 조회만으로 세션을 만들고,
+     * 없을 때만 Gemini로 질문을 생성해 은행에 적립한 뒤 세션을 만듭니다.
+     * Gemini 응답을 기다리는 동안 요청 스레드와 DB 커넥션을 점유하지 않습니다.
+     */
+    public Mono<InterviewDto.StartResponse> startInterview(InterviewDto.StartRequest request, Long memberId) {
+        return inTransaction(() -> prepareStart(request, memberId))
+                .flatMap(context -> {
+                    if (context.bankedQuestions() != null) {
+                        return inTransaction(() -> saveNewSession(request, memberId, context.companyId(), context.bankedQuestions()));
+                    }
+                    return questionBankService.generateMainQuestions(context.contextData(), request.getFieldCategory())
+                            .flatMap(mainQuestions -> inTransaction(() -> saveNewSession(request, memberId, context.companyId(),
+                                    questionBankService.deposit(context.companyId(), request.getFieldCategory(), mainQuestions))));
+                });
+    }
 
-        InterviewSession session = InterviewSession.builder()
-                .member(member)
-                .company(company)
-                .fieldCategory(request.getFieldCategory())
-                .field(request.getField())
-                .status("IN_PROGRESS")
-                .startedAt(OffsetDateTime.now())
-                .build();
-        interviewSessionRepository.save(session);
+    public Mono<InterviewDto.NextResponse> nextQuestion(InterviewDto.NextRequest request, Long memberId) {
+        return inTransaction(() -> recordAnswer(request, memberId))
+                .flatMap(turn -> {
+                    Mono<String> closingRemark = prefetchClosingRemark(turn);
+                    if (turn.followUpOrder() < MAX_FOLLOW_UP_QUESTIONS) {
+                        return decideFollowUp(turn.conversationHistory())
+                                .flatMap(followUp -> followUp.isPresent()
+                                        ? saveFollowUp(turn, followUp.get())
+                                        : proceedToNext(turn, closingRemark));
+                    }
+                    return proceedToNext(turn, closingRemark);
+                });
+    }
 
+    /**
+     * 면접을 평가합니다. 평가 작업 워커({@link InterviewEvaluationJobService})에서 호출되며,
+     * 같은 세션에 대해 이미 진행 중인 평가가 있으면 그 결과를 함께 기다립니다.
+     */
+    public Mono<InterviewAnalysisResponseDto> evaluateInterview(Long interviewSessionId) {
+        return evaluationsInFlight.computeIfAbsent(interviewSessionId, sessionId -> runEvaluation(sessionId)
+                .doFinally(signal -> evaluationsInFlight.remove(sessionId))
+                .cache());
+    }
 
-        String fieldCategoryStr = request.getFieldCategory().getDbValue();
+    private Mono<InterviewAnalysisResponseDto> runEvaluation(Long interviewSessionId) {
+        return inTransaction(() -> prepareEvaluation(interviewSessionId))
+                .flatMap(context -> {
+                    // 기존에 분석된 내용이 있다면 반환 (멱등성 보장)
+                    if (context.existingAnalysis() != null) {
+                        return Mono.just(context.existingAnalysis());
+                    }
+                    String evaluationPrompt = promptService.createInterviewEvaluationPrompt(context.conversationHistory());
+                    return geminiService.generateQuestion(evaluationPrompt)
+                            .map(this::parseEvaluationResult)
+                            .flatMap(evaluationResult -> inTransaction(() -> saveAnalysis(interviewSessionId, evaluationResult)));
+                });
+    }
 
-        List<CompanyReview> reviews = companyReviewRepository.findRandomByCompanyAndField(
-                company.getName(),
-                fieldCategoryStr,
-                PageRequest.of(0, MAX_REVIEW_SAMPLES)
-        );
+    @Transactional(readOnly = true)
+    public InterviewAnalysisResponseDto getInterviewAnalysis(Long interviewSessionId) {
+        InterviewAnalysis analysis = interviewAnalysisRepository.findByInterviewSessionId(interviewSessionId)
+                .orElseThrow(() -> new IllegalArgumentException("면접 분석을 찾을 수 없습니다. ID: " + interviewSessionId));
+        return createAnalysisResponseDto(analysis, analysis.getInterviewSession());
+    }
 
+    // 꼬리질문이 필요하면 생성된 꼬리질문을, 아니면 빈 값을 발행
+    private Mono<Optional<String>> decideFollowUp(List<String> conversationHistory) {
+        if (conversationHistory.size() < 2) return Mono.just(Optional.empty());
+
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            Mono<Optional<String>> decision = switch (followUpStrategy) {
+                case SPECULATIVE -> speculativeFollowUp(conversationHistory);
+                case SEQUENTIAL -> sequentialFollowUp(conversationHistory);
+                case COMBINED -> combinedFollowUp(conversationHistory);
+            };
+            return decision.doOnSuccess(result -> followUpMetrics.recordDecisionLatency(
+                    followUpStrategy, Duration.ofNanos(System.nanoTime() - startedAt)));
+        });
+    }
 
-        log.info("reviews: {}", reviews.toString());
+    private Mono<Optional<String>> sequentialFollowUp(List<String> conversationHistory) {
+        return shouldAskFollowUp(conversationHistory)
+                .flatMap(needsFollowUp -> needsFollowUp
+                        ? geminiService.generateQuestion(promptService.createFollowUpPrompt(conversationHistory)).map(Optional::of)
+                        : Mono.just(Optional.<String>empty()));
+    }
 
+    // 답변 평가와 꼬리질문 생성을 동시에 시작하고, "다음 질문" 판정이면 생성된 꼬리질문을 버립니다.
+    private Mono<Optional<String>> speculativeFollowUp(List<String> conversationHistory) {
+        String evaluationPrompt = promptService.createAnswerEvaluationPrompt(conversationHistory);
+        String followUpPrompt = promptService.createFollowUpPrompt(conversationHistory);
+
+        CompletableFuture<Tuple2<Long, GeminiDto.Response>> followUpInFlight =
+                geminiService.generateContent(followUpPrompt).elapsed().toFuture();
+
+        return geminiService.generateQuestion(evaluationPrompt).elapsed()
+                .flatMap(verdict -> {
+                    if (!verdict.getT2().contains("꼬리질문 필요")) {
+                        followUpInFlight.whenComplete((discarded, error) -> {
+                            if (discarded != null) {
+                                followUpMetrics.recordSpeculativeDiscarded(discarded.getT2().getTotalTokenCount());
+                            }
+                        });
+                        return Mono.just(Optional.<String>empty());
+                    }
+                    return Mono.fromFuture(followUpInFlight)
+                            .map(followUp -> {
+                                // 순차 실행(판정 + 생성) 대비 단축된 시간 = 두 호출 중 짧은 쪽
+                                followUpMetrics.recordSpeculativeSaved(Duration.ofMillis(Math.min(verdict.getT1(), followUp.getT1())));
+                                return Optional.of(followUp.getT2().getGeneratedText().trim());
+                            })
+                            .defaultIfEmpty(Optional.of(GeminiService.UNKNOWN_ERROR_MESSAGE))
+                            .onErrorResume(e -> {
+                                log.error("Gemini 꼬리질문 생성 중 오류 발생: {}", e.getMessage());
+                                return Mono.just(Optional.of(GeminiService.API_FAILURE_MESSAGE));
+                            });
+                });
+    }
 
-        String contextData = formatReviewsForPrompt(reviews);
-        String mainQuestionsPrompt = promptService.createMainQuestionsPrompt(contextData, fieldCategoryStr);
-        String rawResponse = geminiService.generateQuestion(mainQuestionsPrompt);
+    // 판정과 꼬리질문을 한 번의 호출로 받아 Gemini 왕복을 1회로 줄입니다.
+    private Mono<Optional<String>> combinedFollowUp(List<String> conversationHistory) {
+        String decisionPrompt = promptService.createFollowUpDecisionPrompt(conversationHistory);
+        return geminiService.generateQuestion(decisionPrompt)
+                .map(rawResponse -> {
+                    FollowUpDecisionResult decision = parseFollowUpDecision(rawResponse);
+                    if (decision == null || !decision.needsFollowUp()) {
+                        return Optional.<String>empty();
+                    }
+                    return Optional.of(decision.getFollowUpQuestion().trim());
+                });
+    }
 
-        String cleanJson = sanitizeJsonResponse(rawResponse);
-        List<String> mainQuestions;
-        try {
-            mainQuestions = objectMapper.readValue(cleanJson, new TypeReference<>() {});
-        } catch (JsonProcessingException e) {
-            log.error("Gemini 응답 JSON 파싱 실패. 원본: {}, 정리 후: {}", rawResponse, cleanJson, e);
-            throw new IllegalStateException("Gemini로부터 받은 질문 형식이 올바르지 않습니다.");
+    //꼬리질문이 필요한지 체크
+    private Mono<Boolean> shouldAskFollowUp(List<String> conversationHistory) {
+        String evaluationPrompt = promptService.createAnswerEvaluationPrompt(conversationHistory);
+        return geminiService.generateQuestion(evaluationPrompt)
+                .map(evaluationResult -> evaluationResult.contains("꼬리질문 필요"));
+    }
+
+    private Mono<InterviewDto.NextResponse> saveFollowUp(AnswerTurn turn, String followUpQuestionText) {
+        return inTransaction(() -> {
+            InterviewQA followUpQA = InterviewQA.builder()
+                    .interviewSession(interviewSessionRepository.getReferenceById(turn.sessionId()))
+                    .questionOrder(turn.questionOrder())
+                    .followUpOrder(turn.followUpOrder() + 1)
+                    .questionText(followUpQuestionText)
+                    .build();
+            interviewQARepository.save(followUpQA);
+            return new InterviewDto.NextResponse(followUpQuestionText, false);
+        });
+    }
+
+    private Mono<InterviewDto.NextResponse> proceedToNext(AnswerTurn turn, Mono<String> closingRemark) {
+        int nextQuestionOrder = turn.questionOrder() + 1;
+        if (nextQuestionOrder > MAX_MAIN_QUESTIONS) {
+            return closingRemark
+                    .flatMap(remark -> inTransaction(() -> completeSession(turn.sessionId(), remark)))
+                    .map(remark -> new InterviewDto.NextResponse(remark, true));
+        }
+        return inTransaction(() -> interviewQARepository
+                        .findByInterviewSession_IdAndQuestionOrderAndFollowUpOrder(turn.sessionId(), nextQuestionOrder, 0)
+                        .orElseThrow(() -> new IllegalStateException("다음 주요 질문을 찾을 수 없습니다."))
+                        .getQuestionText())
+                .map(questionText -> new InterviewDto.NextResponse(questionText, false));
+    }
+
+    // 마지막 주요 질문(또는 그 꼬리질문)에 답하면 방금 답변까지 포함한 전체 대화로 마무리 멘트 생성을 꼬리질문 판정과 동시에 시작합니다.
+    // 꼬리질문이 필요하다고 판정되면 생성한 멘트는 버리므로, 그 경우에는 Gemini 호출이 한 번 늘어납니다.
+    private Mono<String> prefetchClosingRemark(AnswerTurn turn) {
+        if (turn.questionOrder() < MAX_MAIN_QUESTIONS) {
+            return Mono.empty();
         }
+        CompletableFuture<String> closingRemarkInFlight = geminiService
+                .generateQuestion(promptService.createClosingPrompt(turn.conversationHistory()))
+                .toFuture();
+        return Mono.fromFuture(closingRemarkInFlight);
+    }
+
+    // 세션을 마무리 멘트와 함께 종료하고, /analyze 요청을 기다리지 않고 바로 평가가 시작되도록 평가 작업을 등록합니다.
+    private String completeSession(Long interviewSessionId, String closingRemark) {
+        Optional<InterviewSession> session = interviewSessionRepository.findById(interviewSessionId);
+        session.ifPresent(completed -> completed.complete(closingRemark));
+        if (session.isPresent() && !evaluationJobRepository.existsByInterviewSessionId(interviewSessionId)) {
+            evaluationJobRepository.save(InterviewEvaluationJob.pending(interviewSessionId));
+        }
+        return closingRemark;
+    }
 
-        if (mainQuestions.isEmpty()) {
-            throw new IllegalStateException("Gemini로부터 유효한 질문을 생성하지 못했습니다.");
+    private StartContext prepareStart(InterviewDto.StartRequest request, Long memberId) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + memberId);
+        }
+        CompanyReviewContext reviewContext = companyReviewContextCache.get(request.getCompanyName(), request.getFieldCategory());
+        Optional<BankedQuestions> banked = questionBankService.draw(reviewContext.companyId(), request.getFieldCategory(), memberId);
+        if (banked.isPresent()) {
+            return new StartContext(reviewContext.companyId(), null, banked.get());
         }
+        return new StartContext(reviewContext.companyId(), reviewContext.toPrompt(MAX_REVIEW_SAMPLES), null);
+    }
+
+    private InterviewDto.StartResponse saveNewSession(InterviewDto.StartRequest request, Long memberId,
+                                                      Long companyId, BankedQuestions bankedQuestions) {
+        List<String> mainQuestions = bankedQuestions.questions();
+        InterviewSession session = InterviewSession.builder()
+                .member(memberRepository.getReferenceById(memberId))
+                .company(companyRepository.getReferenceById(companyId))
+                .fieldCategory(request.getFieldCategory())
+                .field(request.getField())
+                .status("IN_PROGRESS")
+                .startedAt(OffsetDateTime.now())
+                .questionSetId(bankedQuestions.questionSetId())
+                .build();
+        interviewSessionRepository.save(session);
 
         for (int i = 0; i < mainQuestions.size() && i < MAX_MAIN_QUESTIONS; i++) {
             InterviewQA mainQA = InterviewQA.builder()
@@ -111,8 +298,7 @@ public class InterviewService {
         return new InterviewDto.StartResponse(session.getId(), mainQuestions.get(0).trim());
     }
 
-    @Transactional
-    public InterviewDto.NextResponse nextQuestion(InterviewDto.NextRequest request,Long memberId) {
+    private AnswerTurn recordAnswer(InterviewDto.NextRequest request, Long memberId) {
         InterviewSession session = interviewSessionRepository.findById(request.getInterviewSessionId())
                 .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다. ID: " + request.getInterviewSessionId()));
 
@@ -130,40 +316,12 @@ public class InterviewService {
 
         currentQA.updateAnswer(request.getAnswerText(), request.getS3Url());
 
-        List<String> conversationHistory = buildConversationHistory(allQAs);
-
-        if (currentQA.getFollowUpOrder() < MAX_FOLLOW_UP_QUESTIONS && shouldAskFollowUp(conversationHistory)) {
-            String followUpPrompt = promptService.createFollowUpPrompt(conversationHistory);
-            String followUpQuestionText = geminiService.generateQuestion(followUpPrompt);
-
-            InterviewQA followUpQA = InterviewQA.builder()
-                    .interviewSession(session)
-                    .questionOrder(currentQA.getQuestionOrder())
-                    .followUpOrder(currentQA.getFollowUpOrder() + 1)
-                    .questionText(followUpQuestionText)
-                    .build();
-            interviewQARepository.save(followUpQA);
-
-            return new InterviewDto.NextResponse(followUpQuestionText, false);
-        } else {
-            int nextQuestionOrder = currentQA.getQuestionOrder() + 1;
-            if (nextQuestionOrder > MAX_MAIN_QUESTIONS) {
-                String closingPrompt = promptService.createClosingPrompt(conversationHistory);
-                String closingRemark = geminiService.generateQuestion(closingPrompt);
-                session.complete();
-                return new InterviewDto.NextResponse(closingRemark, true);
-            } else {
-                InterviewQA nextMainQA = interviewQARepository
-                        .findByInterviewSession_IdAndQuestionOrderAndFollowUpOrder(session.getId(), nextQuestionOrder, 0)
-                        .orElseThrow(() -> new IllegalStateException("다음 주요 질문을 찾을 수 없습니다."));
-                return new InterviewDto.NextResponse(nextMainQA.getQuestionText(), false);
-            }
-        }
+        return new AnswerTurn(session.getId(), currentQA.getQuestionOrder(), currentQA.getFollowUpOrder(),
+                buildConversationHistory(allQAs));
     }
 
-    @Transactional
-    public InterviewAnalysisResponseDto evaluateInterview(Long interviewSessionId) {
-        InterviewSession session = interviewSessionRepository.findById(interviewSessionId)
+    private EvaluationContext prepareEvaluation(Long interviewSessionId) {
+        interviewSessionRepository.findById(interviewSessionId)
                 .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다. ID: " + interviewSessionId));
 
         List<InterviewQA> qas = interviewQARepository.findByInterviewSession_IdOrderByQuestionOrderAscFollowUpOrderAsc(interviewSessionId);
@@ -171,28 +329,21 @@ public class InterviewService {
             throw new IllegalArgumentException("해당 세션에 대한 면접 질문-답변 데이터가 없습니다. ID: " + interviewSessionId);
         }
 
-        // 기존에 분석된 내용이 있다면 반환 (멱등성 보장)
         Optional<InterviewAnalysis> existingAnalysis = interviewAnalysisRepository.findByInterviewSessionId(interviewSessionId);
         if (existingAnalysis.isPresent()) {
-            return createAnalysisResponseDto(existingAnalysis.get(), existingAnalysis.get().getInterviewSession());
+            return new EvaluationContext(
+                    createAnalysisResponseDto(existingAnalysis.get(), existingAnalysis.get().getInterviewSession()), null);
         }
+        return new EvaluationContext(null, buildConversationHistory(qas));
+    }
 
-        String evaluationPrompt = promptService.createInterviewEvaluationPrompt(buildConversationHistory(qas));
-        String rawResponse = geminiService.generateQuestion(evaluationPrompt);
-
-        String cleanJson = sanitizeJsonResponse(rawResponse);
-        InterviewEvaluationResult evaluationResult;
-        try {
-            evaluationResult = objectMapper.readValue(cleanJson, InterviewEvaluationResult.class);
-        } catch (JsonProcessingException e) {
-            log.error("Gemini 면접 평가 응답 JSON 파싱 실패. 원본: {}, 정리 후: {}", rawResponse, cleanJson, e);
-            throw new IllegalStateException("Gemini로부터 받은 면접 평가 형식이 올바르지 않습니다.");
-        }
+    private InterviewAnalysisResponseDto saveAnalysis(Long interviewSessionId, InterviewEvaluationResult evaluationResult) {
+        InterviewSession session = interviewSessionRepository.getReferenceById(interviewSessionId);
 
         String summaryToSave = evaluationResult.getSummary();
         String strengthsToSave = evaluationResult.getStrengths();
         String improvementsToSave = evaluationResult.getImprovements();
-        
+
         log.info("저장될 summary 길이: {}, 내용: {}", summaryToSave != null ? summaryToSave.length() : 0, summaryToSave);
         log.info("저장될 strengths 길이: {}, 내용: {}", strengthsToSave != null ? strengthsToSave.length() : 0, strengthsToSave);
         log.info("저장될 improvements 길이: {}, 내용: {}", improvementsToSave != null ? improvementsToSave.length() : 0, improvementsToSave);
@@ -209,9 +360,10 @@ public class InterviewService {
                 .improvements(improvementsToSave)
                 .build();
         interviewAnalysisRepository.save(analysis);
+        memberStatisticsService.recordAnalysis(analysis);
 
         log.info("면접 분석 결과 저장됨: session_id={}, score={}, technical={}, soft={}, problem={}, growth={}, summary_length={}",
-                session.getId(),
+                interviewSessionId,
                 analysis.getScore(),
                 analysis.getTechnicalExpertiseScore(),
                 analysis.getCollaborationCommunicationScore(),
@@ -222,34 +374,31 @@ public class InterviewService {
         return createAnalysisResponseDto(analysis, analysis.getInterviewSession());
     }
 
-    @Transactional(readOnly = true)
-    public InterviewAnalysisResponseDto getInterviewAnalysis(Long interviewSessionId) {
-        InterviewAnalysis analysis = interviewAnalysisRepository.findByInterviewSessionId(interviewSessionId)
-                .orElseThrow(() -> new IllegalArgumentException("면접 분석을 찾을 수 없습니다. ID: " + interviewSessionId));
-        return createAnalysisResponseDto(analysis, analysis.getInterviewSession());
+    // 판정 응답을 해석할 수 없으면 면접 흐름을 막지 않도록 다음 질문으로 진행합니다.
+    private FollowUpDecisionResult parseFollowUpDecision(String rawResponse) {
+        String cleanJson = GeminiService.stripCodeFence(rawResponse);
+        try {
+            return objectMapper.readValue(cleanJson, FollowUpDecisionResult.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Gemini 꼬리질문 판정 응답 JSON 파싱 실패. 다음 질문으로 진행합니다. 원본: {}", rawResponse);
+            return null;
+        }
     }
 
-    //markdown 표시가 있을경우 제거해줌.
-    private String sanitizeJsonResponse(String rawResponse) {
-        String sanitized = rawResponse.trim();
-        if (sanitized.startsWith("```json")) {
-            sanitized = sanitized.substring(7);
-        } else if (sanitized.startsWith("```")) {
-            sanitized = sanitized.substring(3);
-        }
-        if (sanitized.endsWith("```")) {
-            sanitized = sanitized.substring(0, sanitized.length() - 3);
+    private InterviewEvaluationResult parseEvaluationResult(String rawResponse) {
+        String cleanJson = GeminiService.stripCodeFence(rawResponse);
+        try {
+            return objectMapper.readValue(cleanJson, InterviewEvaluationResult.class);
+        } catch (JsonProcessingException e) {
+            log.error("Gemini 면접 평가 응답 JSON 파싱 실패. 원본: {}, 정리 후: {}", rawResponse, cleanJson, e);
+            throw new IllegalStateException("Gemini로부터 받은 면접 평가 형식이 올바르지 않습니다.");
         }
-        return sanitized.trim();
     }
 
-    //꼬리질문이 필요한지 체크
-    private boolean shouldAskFollowUp(List<String> conversationHistory) {
-        if (conversationHistory.size() < 2) return false;
-
-        String evaluationPrompt = promptService.createAnswerEvaluationPrompt(conversationHistory);
-        String evaluationResult = geminiService.generateQuestion(evaluationPrompt);
-        return evaluationResult.contains("꼬리질문 필요");
+    // JPA 작업은 짧은 트랜잭션으로 감싸 블로킹 허용 스케줄러에서 실행합니다.
+    private <T> Mono<T> inTransaction(Supplier<T> work) {
+        return Mono.fromCallable(() -> transactionTemplate.execute(status -> work.get()))
+                .subscribeOn(Schedulers.boundedElastic());
     }
 
     private List<String> buildConversationHistory(List<InterviewQA> allQAs) {
@@ -265,18 +414,6 @@ public class InterviewService {
                 .collect(Collectors.toList());
     }
 
-    private String formatReviewsForPrompt(List<CompanyReview> reviews) {
-        if (reviews.isEmpty()) return "이 회사에 대한 면접 데이터가 없습니다.";
-        return reviews.stream()
-                .map(review -> String.format("- 난이도: %s, 질문: [%s], 후기: %s",
-                        review.getDifficulty(),
-                        review.getInterviewQuestions() != null ? review.getInterviewQuestions().replace("\n", " ") : "N/A",
-                        review.getSummary() != null ? review.getSummary().replace("\n", " ") : "N/A"
-                ))
-                .limit(20)
-                .collect(Collectors.joining("\n"));
-    }
-
     private InterviewAnalysisResponseDto createAnalysisResponseDto(InterviewAnalysis analysis, InterviewSession session) {
         return InterviewAnalysisResponseDto.builder()
                 .id(analysis.getId())
@@ -291,4 +428,13 @@ public class InterviewService {
                 .improvements(analysis.getImprovements())
                 .build();
     }
+
+    private record StartContext(Long companyId, String contextData, BankedQuestions bankedQuestions) {
+    }
+
+    private record AnswerTurn(Long sessionId, int questionOrder, int followUpOrder, List<String> conversationHistory) {
+    }
+
+    private record EvaluationContext(InterviewAnalysisResponseDto existingAnalysis, List<String> conversationHistory) {
+    }
 }
\ No newline at end of file
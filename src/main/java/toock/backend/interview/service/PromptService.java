@@ -82,6 +82,34 @@ public class PromptService {
             """.formatted(history);
     }
 
+    /**
+     * 답변 평가와 꼬리 질문 생성을 한 번의 호출로 처리하기 위한 프롬프트를 생성합니다.
+     * 응답은 판정(verdict)과 꼬리 질문(followUpQuestion)을 담은 JSON 형식이어야 합니다.
+     * @param conversationHistory 질문과 답변이 번갈아 담긴 전체 대화 기록 리스트
+     * @return Gemini API에 전달할 판정+꼬리질문 통합 프롬프트
+     */
+    public String createFollowUpDecisionPrompt(List<String> conversationHistory) {
+        String history = formatConversationHistory(conversationHistory);
+        return """
+            당신은 기술 면접관입니다. 아래는 지금까지의 대화 내용입니다.
+            [대화 내용]:
+            %s
+            
+            방금 지원자가 한 마지막 답변을 평가해주세요.
+            답변이 충분히 구체적이고 경험에 기반하여 상세하게 설명되었다면 verdict를 "다음 질문"으로 설정하세요.
+            답변이 추상적이거나, 특정 기술 용어에 대해 더 깊게 파고들 여지가 있거나, 너무 짧다면 verdict를 "꼬리질문 필요"로 설정하고,
+            더 구체적인 내용을 확인하기 위한 간결하고 명확한 꼬리 질문 하나를 followUpQuestion에 작성하세요.
+            
+            **매우 중요**: 당신의 응답은 반드시 아래와 같은 JSON 형식이어야 합니다.
+            다른 부가적인 설명이나 markdown(`json ... `) 없이 순수한 JSON만 응답해야 합니다.
+            verdict가 "다음 질문"이면 followUpQuestion은 null로 응답합니다.
+            
+            [응답 형식 예시]
+            {"verdict": "꼬리질문 필요", "followUpQuestion": "꼬리 질문 텍스트입니다."}
+            {"verdict": "다음 질문", "followUpQuestion": null}
+            """.formatted(history);
+    }
+
     /**
      * 면접 마무리를 위한 프롬프트를 생성합니다.
      */
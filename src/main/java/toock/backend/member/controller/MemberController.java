@@ -1,6 +1,7 @@
 package toock.backend.member.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -8,7 +9,7 @@ import toock.backend.global.dto.CommonResponseDto;
 import toock.backend.member.dto.*;
 import toock.backend.member.service.MemberService;
 
-import java.util.List;
+import java.time.OffsetDateTime;
 
 @RestController
 @RequestMapping("/users")
@@ -46,10 +47,14 @@ public class MemberController {
         return ResponseEntity.ok(CommonResponseDto.success(response));
     }
 
+    // 첫 페이지는 커서 없이 호출하고, 이후에는 응답의 nextCursorStartedAt, nextCursorId를 넘겨 다음 페이지를 조회합니다.
     @GetMapping("/interviews")
-    public ResponseEntity<CommonResponseDto<List<InterviewHistoryDto>>> getInterviewHistories(
-            @AuthenticationPrincipal Long memberId) {
-        List<InterviewHistoryDto> histories = memberService.getInterviewHistories(memberId);
+    public ResponseEntity<CommonResponseDto<InterviewHistoryPageDto>> getInterviewHistories(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime cursorStartedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        InterviewHistoryPageDto histories = memberService.getInterviewHistories(memberId, cursorStartedAt, cursorId, size);
         return ResponseEntity.ok(CommonResponseDto.success(histories));
     }
 }
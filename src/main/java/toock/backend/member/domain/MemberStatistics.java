@@ -0,0 +1,89 @@
+package toock.backend.member.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * 회원별 면접 통계 요약 행. 면접 분석이 저장될 때 같은 트랜잭션에서 누적 갱신되며,
+ * 대시보드 통계는 이 행을 기본 키로 조회합니다.
+ * 주간 횟수는 weekStart(월요일) 주에 시작된 분석 완료 면접 수이며, 조회 시점의 주와 다르면 0으로 봅니다.
+ */
+@Getter
+@Entity
+@Table(name = "member_statistics")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberStatistics {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(nullable = false)
+    private long totalInterviews;
+
+    @Column(nullable = false)
+    private long scoreSum;
+
+    @Column
+    private Integer bestScore;
+
+    @Column
+    private LocalDate weekStart;
+
+    @Column(nullable = false)
+    private long weekCount;
+
+    @Column(nullable = false)
+    private OffsetDateTime updatedAt;
+
+    public static MemberStatistics of(Long memberId, long totalInterviews, long scoreSum, Integer bestScore,
+                                      LocalDate weekStart, long weekCount) {
+        MemberStatistics statistics = new MemberStatistics();
+        statistics.memberId = memberId;
+        statistics.overwrite(totalInterviews, scoreSum, bestScore, weekStart, weekCount);
+        return statistics;
+    }
+
+    // 백필 시 집계 결과로 덮어씀
+    public void overwrite(long totalInterviews, long scoreSum, Integer bestScore, LocalDate weekStart, long weekCount) {
+        this.totalInterviews = totalInterviews;
+        this.scoreSum = scoreSum;
+        this.bestScore = bestScore;
+        this.weekStart = weekStart;
+        this.weekCount = weekCount;
+        this.updatedAt = OffsetDateTime.now();
+    }
+
+    /**
+     * 분석 결과 하나를 누적합니다.
+     * @param score 분석 점수 (null이면 횟수만 셈)
+     * @param sessionWeekStart 면접이 시작된 주의 월요일
+     */
+    public void record(Integer score, LocalDate sessionWeekStart) {
+        this.totalInterviews++;
+        if (score != null) {
+            this.scoreSum += score;
+            this.bestScore = bestScore == null ? score : Math.max(bestScore, score);
+        }
+        if (weekStart == null || sessionWeekStart.isAfter(weekStart)) {
+            this.weekStart = sessionWeekStart;
+            this.weekCount = 1;
+        } else if (sessionWeekStart.equals(weekStart)) {
+            this.weekCount++;
+        }
+        this.updatedAt = OffsetDateTime.now();
+    }
+
+    public double averageScore() {
+        return totalInterviews == 0 ? 0.0 : (double) scoreSum / totalInterviews;
+    }
+
+    public long weekCount(LocalDate currentWeekStart) {
+        return currentWeekStart.equals(weekStart) ? weekCount : 0;
+    }
+}
@@ -3,14 +3,15 @@ package toock.backend.member.dto;
 import lombok.Builder;
 import lombok.Getter;
 import java.time.format.DateTimeFormatter;
-import toock.backend.interview.domain.InterviewAnalysis;
 import toock.backend.interview.domain.InterviewFieldCategory;
-import toock.backend.interview.domain.InterviewSession;
+import toock.backend.interview.repository.InterviewSessionRepository.InterviewHistoryRow;
 import toock.backend.member.domain.Field;
 
 @Getter
 @Builder
 public class InterviewHistoryDto {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
     private Long interviewSessionId;
     private String companyName;
     private InterviewFieldCategory interviewFieldCategory;
@@ -20,16 +21,16 @@ public class InterviewHistoryDto {
     private Integer maxScore;
     private Long questionCount;
 
-    public static InterviewHistoryDto of(InterviewSession session, InterviewAnalysis analysis, Long questionCount) {
+    public static InterviewHistoryDto from(InterviewHistoryRow row) {
         return InterviewHistoryDto.builder()
-                .interviewSessionId(session.getId())
-                .companyName(session.getCompany().getName())
-                .interviewFieldCategory(session.getFieldCategory())
-                .field(session.getField())
-                .date(session.getStartedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
-                .score(analysis != null ? analysis.getScore() : 0)
+                .interviewSessionId(row.getInterviewSessionId())
+                .companyName(row.getCompanyName())
+                .interviewFieldCategory(row.getFieldCategory())
+                .field(row.getField())
+                .date(row.getStartedAt().format(DATE_FORMATTER))
+                .score(row.getScore() != null ? row.getScore() : 0)
                 .maxScore(5)
-                .questionCount(questionCount != null ? questionCount : 0L)
+                .questionCount(row.getQuestionCount() != null ? row.getQuestionCount() : 0L)
                 .build();
     }
 }
@@ -0,0 +1,19 @@
+package toock.backend.member.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 면접 기록 한 페이지. 다음 페이지는 nextCursorStartedAt, nextCursorId를 그대로 넘겨 조회합니다.
+ */
+@Getter
+@Builder
+public class InterviewHistoryPageDto {
+    private List<InterviewHistoryDto> histories;
+    private boolean hasNext;
+    private OffsetDateTime nextCursorStartedAt;
+    private Long nextCursorId;
+}
@@ -2,6 +2,10 @@ package toock.backend.member.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import toock.backend.interview.repository.InterviewAnalysisRepository.MemberStatisticsRow;
+import toock.backend.member.domain.MemberStatistics;
+
+import java.time.LocalDate;
 
 @Getter
 @Builder
@@ -10,4 +14,22 @@ public class MemberStatisticsResponseDto {
     private double averageScore;
     private Integer bestScore;
     private long interviewsThisWeek;
-}
\ No newline at end of file
+
+    public static MemberStatisticsResponseDto from(MemberStatisticsRow row) {
+        return MemberStatisticsResponseDto.builder()
+                .totalInterviews(row.getTotalInterviews() != null ? row.getTotalInterviews() : 0L)
+                .averageScore(row.getAverageScore() != null ? row.getAverageScore() : 0.0)
+                .bestScore(row.getBestScore() != null ? row.getBestScore() : 0)
+                .interviewsThisWeek(row.getInterviewsThisWeek() != null ? row.getInterviewsThisWeek() : 0L)
+                .build();
+    }
+
+    public static MemberStatisticsResponseDto from(MemberStatistics statistics, LocalDate currentWeekStart) {
+        return MemberStatisticsResponseDto.builder()
+                .totalInterviews(statistics.getTotalInterviews())
+                .averageScore(statistics.averageScore())
+                .bestScore(statistics.getBestScore() != null ? statistics.getBestScore() : 0)
+                .interviewsThisWeek(statistics.weekCount(currentWeekStart))
+                .build();
+    }
+}
@@ -1,11 +1,14 @@
 package toock.backend.member.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-
-
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import toock.backend.member.domain.Member;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +16,12 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
     Optional<Member> findByGoogleId(String googleId);
     boolean existsByUsername(String username);
+
+    // 회원별 통계 갱신을 직렬화하기 위한 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Member m WHERE m.id = :id")
+    Optional<Member> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT m.id FROM Member m ORDER BY m.id")
+    List<Long> findAllIds();
 }
@@ -0,0 +1,9 @@
+package toock.backend.member.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import toock.backend.member.domain.MemberStatistics;
+
+@Repository
+public interface MemberStatisticsRepository extends JpaRepository<MemberStatistics, Long> {
+}
@@ -2,36 +2,30 @@ package toock.backend.member.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import toock.backend.global.error.ErrorCode;
-import toock.backend.interview.domain.InterviewAnalysis;
-import toock.backend.interview.domain.InterviewSession;
-import toock.backend.interview.repository.InterviewAnalysisRepository;
-import toock.backend.interview.repository.InterviewQARepository;
 import toock.backend.interview.repository.InterviewSessionRepository;
+import toock.backend.interview.repository.InterviewSessionRepository.InterviewHistoryRow;
 import toock.backend.member.domain.Member;
 import toock.backend.member.dto.*;
 import toock.backend.member.error.MemberException;
 import toock.backend.member.repository.MemberRepository;
 
-import java.time.DayOfWeek;
 import java.time.OffsetDateTime;
-import java.time.temporal.TemporalAdjusters;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;
+
     private final MemberRepository memberRepository;
     private final InterviewSessionRepository interviewSessionRepository;
-    private final InterviewAnalysisRepository interviewAnalysisRepository;
-    private final InterviewQARepository interviewQARepository;
+    private final MemberStatisticsService memberStatisticsService;
 
 
     @Transactional(readOnly = true)
@@ -44,42 +38,9 @@ public class MemberService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
+    // 통계는 분석 저장 시 갱신되는 요약 행을 기본 키로 조회
     public MemberStatisticsResponseDto getUserStatistics(Long memberId) {
-        // 1. 사용자의 모든 면접 세션 ID 조회
-        List<Long> sessionIds = interviewSessionRepository.findByMemberId(memberId)
-                .stream()
-                .map(InterviewSession::getId)
-                .collect(Collectors.toList());
-
-        // 2. 완료된 면접에 대한 모든 분석 결과 조회
-        List<InterviewAnalysis> analyses = interviewAnalysisRepository.findByInterviewSessionIdIn(sessionIds);
-
-
-        // 3. 통계 계산
-        long totalInterviews = analyses.size();
-        double averageScore = analyses.stream()
-                .mapToInt(InterviewAnalysis::getScore)
-                .average()
-                .orElse(0.0);
-        Integer bestScore = analyses.stream()
-                .mapToInt(InterviewAnalysis::getScore)
-                .max()
-                .orElse(0);
-
-        // 4. 이번 주에 '분석까지 완료된' 면접 횟수 계산 (월요일 시작 ~ 일요일 끝)
-        OffsetDateTime now = OffsetDateTime.now();
-        OffsetDateTime startOfWeek = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).withHour(0).withMinute(0).withSecond(0);
-        OffsetDateTime endOfWeek = now.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)).withHour(23).withMinute(59).withSecond(59);
-
-        long interviewsThisWeek = interviewAnalysisRepository.countAnalyzedInterviewsByMemberAndDateRange(memberId, startOfWeek, endOfWeek);
-
-        return MemberStatisticsResponseDto.builder()
-                .totalInterviews(totalInterviews)
-                .averageScore(averageScore)
-                .bestScore(bestScore)
-                .interviewsThisWeek(interviewsThisWeek)
-                .build();
+        return memberStatisticsService.getStatistics(memberId);
     }
 
     @Transactional
@@ -96,18 +57,32 @@ public class MemberService {
         return MemberProfileResponseDto.from(member);
     }
 
+    /**
+     * (startedAt, id) 커서 기준으로 면접 기록을 최신순으로 한 페이지씩 조회합니다.
+     * 커서가 없으면 첫 페이지를 반환하며, 조회 비용은 전체 기록 수와 관계없이 페이지 크기에 비례합니다.
+     */
     @Transactional(readOnly = true)
-    public List<InterviewHistoryDto> getInterviewHistories(Long memberId) {
-        List<InterviewSession> sessions = interviewSessionRepository.findByMemberId(memberId)
-                .stream()
-                .sorted(Comparator.comparing(InterviewSession::getStartedAt).reversed())
-                .toList();
-
-        return sessions.stream().map(session -> {
-            Optional<InterviewAnalysis> analysisOpt = interviewAnalysisRepository.findByInterviewSessionId(session.getId());
-            Long questionCount = interviewQARepository.countByInterviewSessionId(session.getId());
-
-            return InterviewHistoryDto.of(session, analysisOpt.orElse(null), questionCount);
-        }).collect(Collectors.toList());
+    public InterviewHistoryPageDto getInterviewHistories(Long memberId, OffsetDateTime cursorStartedAt, Long cursorId, int size) {
+        if ((cursorStartedAt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("cursorStartedAt과 cursorId는 함께 전달해야 합니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        List<InterviewHistoryRow> rows = cursorId == null
+                ? interviewSessionRepository.findHistoriesByMemberId(memberId, limit)
+                : interviewSessionRepository.findHistoriesByMemberIdBefore(memberId, cursorStartedAt, cursorId, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<InterviewHistoryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        InterviewHistoryRow last = hasNext ? page.get(page.size() - 1) : null;
+
+        return InterviewHistoryPageDto.builder()
+                .histories(page.stream().map(InterviewHistoryDto::from).toList())
+                .hasNext(hasNext)
+                .nextCursorStartedAt(last != null ? last.getStartedAt() : null)
+                .nextCursorId(last != null ? last.getInterviewSessionId() : null)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package toock.backend.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 통계 요약 행을 분석 테이블 기준으로 다시 계산합니다.
+ * 마이그레이션 직후 백필이나 데이터 보정 시 statistics-rebuild 프로필로 실행합니다.
+ */
+@Slf4j
+@Profile("statistics-rebuild")
+@Component
+@RequiredArgsConstructor
+public class MemberStatisticsRebuildRunner implements CommandLineRunner {
+
+    private final MemberStatisticsService memberStatisticsService;
+
+    @Override
+    public void run(String... args) {
+        log.info("회원 통계 재계산 시작");
+        memberStatisticsService.rebuildAll();
+    }
+}
@@ -0,0 +1,112 @@
+package toock.backend.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import toock.backend.global.error.ErrorCode;
+import toock.backend.interview.domain.InterviewAnalysis;
+import toock.backend.interview.repository.InterviewAnalysisRepository;
+import toock.backend.interview.repository.InterviewAnalysisRepository.MemberStatisticsRow;
+import toock.backend.member.domain.MemberStatistics;
+import toock.backend.member.dto.MemberStatisticsResponseDto;
+import toock.backend.member.error.MemberException;
+import toock.backend.member.repository.MemberRepository;
+import toock.backend.member.repository.MemberStatisticsRepository;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * member_statistics 요약 행을 관리합니다.
+ * 분석 저장 시 회원 행을 잠근 뒤 누적 갱신하므로 같은 회원의 평가가 동시에 끝나도 값이 어긋나지 않습니다.
+ * 요약 행이 아직 없는 회원(백필 전)은 분석 테이블 집계로 초기화합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberStatisticsService {
+
+    private final MemberRepository memberRepository;
+    private final MemberStatisticsRepository memberStatisticsRepository;
+    private final InterviewAnalysisRepository interviewAnalysisRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 요약 행으로 통계를 조회하고, 행이 없으면 분석 테이블 집계로 응답합니다.
+     */
+    @Transactional(readOnly = true)
+    public MemberStatisticsResponseDto getStatistics(Long memberId) {
+        LocalDate currentWeekStart = weekStartOf(OffsetDateTime.now());
+        return memberStatisticsRepository.findById(memberId)
+                .map(statistics -> MemberStatisticsResponseDto.from(statistics, currentWeekStart))
+                .orElseGet(() -> MemberStatisticsResponseDto.from(aggregate(memberId)));
+    }
+
+    /**
+     * 방금 저장한 분석 결과를 회원 통계에 반영합니다. 분석 저장과 같은 트랜잭션에서 호출해야 합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAnalysis(InterviewAnalysis analysis) {
+        Long memberId = analysis.getInterviewSession().getMember().getId();
+        memberRepository.findByIdForUpdate(memberId)
+                .orElseThrow(() -> new MemberException(ErrorCode.MEMBER_NOT_FOUND));
+
+        OffsetDateTime startedAt = analysis.getInterviewSession().getStartedAt();
+        LocalDate sessionWeekStart = weekStartOf(startedAt != null ? startedAt : OffsetDateTime.now());
+        memberStatisticsRepository.findById(memberId).ifPresentOrElse(
+                statistics -> statistics.record(analysis.getScore(), sessionWeekStart),
+                // 요약 행이 없으면 방금 저장한 분석까지 포함해 집계로 만듦
+                () -> memberStatisticsRepository.save(rebuild(memberId)));
+    }
+
+    /**
+     * 모든 회원의 요약 행을 분석 테이블 기준으로 다시 계산합니다. 회원마다 별도 트랜잭션으로 커밋합니다.
+     * @return 다시 계산한 회원 수
+     */
+    public int rebuildAll() {
+        List<Long> memberIds = memberRepository.findAllIds();
+        for (Long memberId : memberIds) {
+            transactionTemplate.executeWithoutResult(status -> {
+                memberRepository.findByIdForUpdate(memberId);
+                MemberStatistics rebuilt = rebuild(memberId);
+                memberStatisticsRepository.findById(memberId).ifPresentOrElse(
+                        statistics -> statistics.overwrite(rebuilt.getTotalInterviews(), rebuilt.getScoreSum(),
+                                rebuilt.getBestScore(), rebuilt.getWeekStart(), rebuilt.getWeekCount()),
+                        () -> memberStatisticsRepository.save(rebuilt));
+            });
+        }
+        log.info("회원 통계 {}건을 다시 계산했습니다.", memberIds.size());
+        return memberIds.size();
+    }
+
+    private MemberStatistics rebuild(Long memberId) {
+        LocalDate currentWeekStart = weekStartOf(OffsetDateTime.now());
+        MemberStatisticsRow row = aggregate(memberId);
+        return MemberStatistics.of(memberId,
+                row.getTotalInterviews() != null ? row.getTotalInterviews() : 0L,
+                row.getScoreSum() != null ? row.getScoreSum() : 0L,
+                row.getBestScore(),
+                currentWeekStart,
+                row.getInterviewsThisWeek() != null ? row.getInterviewsThisWeek() : 0L);
+    }
+
+    // 이번 주 범위 (월요일 시작 ~ 일요일 끝)
+    private MemberStatisticsRow aggregate(Long memberId) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime startOfWeek = now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).withHour(0).withMinute(0).withSecond(0);
+        OffsetDateTime endOfWeek = now.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)).withHour(23).withMinute(59).withSecond(59);
+        return interviewAnalysisRepository.aggregateStatisticsByMember(memberId, startOfWeek, endOfWeek);
+    }
+
+    private static LocalDate weekStartOf(OffsetDateTime dateTime) {
+        return dateTime.atZoneSameInstant(ZoneId.systemDefault()).toLocalDate()
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
@@ -0,0 +1,9 @@
+CREATE TABLE csv_load_checkpoint (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    file_name VARCHAR(255) NOT NULL,
+    rows_committed BIGINT NOT NULL,
+    completed BIT(1) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_csv_load_checkpoint_file UNIQUE (file_name)
+);
@@ -0,0 +1,7 @@
+-- 기존 행은 content_hash가 NULL로 남으며, 유니크 인덱스는 NULL 중복을 허용합니다.
+ALTER TABLE company_review ADD COLUMN content_hash CHAR(64) NULL;
+CREATE UNIQUE INDEX uk_company_review_company_hash ON company_review (company_id, content_hash);
+
+ALTER TABLE csv_load_checkpoint ADD COLUMN file_size BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE csv_load_checkpoint ADD COLUMN checksum CHAR(64) NOT NULL DEFAULT '';
+ALTER TABLE csv_load_checkpoint ADD COLUMN last_loaded_at DATETIME(6) NULL;
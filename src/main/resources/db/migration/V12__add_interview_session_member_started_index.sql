@@ -0,0 +1 @@
+CREATE INDEX idx_interview_session_member_started ON interview_session (member_id, started_at);
@@ -0,0 +1,12 @@
+-- 기존 회원의 통계는 statistics-rebuild 프로필로 백필합니다.
+CREATE TABLE member_statistics (
+    member_id BIGINT NOT NULL,
+    total_interviews BIGINT NOT NULL,
+    score_sum BIGINT NOT NULL,
+    best_score INT,
+    week_start DATE,
+    week_count BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (member_id),
+    CONSTRAINT fk_member_statistics_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
@@ -0,0 +1,9 @@
+-- whisper.cache.db.enabled=true일 때만 사용합니다.
+CREATE TABLE whisper_transcription_cache (
+    cache_key VARCHAR(100) NOT NULL,
+    response MEDIUMTEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (cache_key)
+);
+
+CREATE INDEX idx_whisper_transcription_cache_created ON whisper_transcription_cache (created_at);
@@ -0,0 +1,11 @@
+-- 내용 해시를 CSV 원본 문자열이 아니라 저장된 값으로 계산하도록 바꿔, 해시가 없는 기존 행도 DB 값만으로 채울 수 있게 함.
+-- 기존 해시는 모두 지우고 csv-loader 실행 시 CompanyReviewHashBackfill이 적재 전에 다시 채움 (같은 내용의 중복 행은 먼저 저장된 행만 남김).
+UPDATE company_review SET content_hash = NULL;
+
+-- 후기를 마지막으로 포함한 CSV 파일과 그 파일의 적재 세대. 바뀐 파일을 다시 적재한 뒤 이번 세대에 없던 행(수정 전 버전, 삭제된 후기)을 지움.
+-- 이 마이그레이션 이전에 적재된 행은 출처가 없으므로, 다시 적재된 파일에서 발견되기 전까지는 자동으로 지워지지 않음.
+ALTER TABLE company_review ADD COLUMN source_file VARCHAR(255) NULL;
+ALTER TABLE company_review ADD COLUMN load_generation INT NULL;
+CREATE INDEX idx_company_review_source_file ON company_review (source_file, load_generation);
+
+ALTER TABLE csv_load_checkpoint ADD COLUMN generation INT NOT NULL DEFAULT 0;
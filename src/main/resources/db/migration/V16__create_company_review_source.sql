@@ -0,0 +1,22 @@
+-- 후기마다 출처 파일을 하나만 기록하면, 같은 후기가 여러 파일에 있을 때 마지막으로 적재한 파일에서 빠지는 순간 다른 파일에 남아 있어도 지워짐.
+-- 출처를 (파일, 회사, 내용 해시) 단위의 별도 테이블로 옮기고, 어느 파일도 참조하지 않게 된 후기만 지움.
+CREATE TABLE company_review_source (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    source_file VARCHAR(255) NOT NULL,
+    company_id BIGINT NOT NULL,
+    content_hash CHAR(64) NOT NULL,
+    load_generation INT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_company_review_source UNIQUE (source_file, company_id, content_hash)
+);
+CREATE INDEX idx_company_review_source_generation ON company_review_source (source_file, load_generation);
+CREATE INDEX idx_company_review_source_hash ON company_review_source (company_id, content_hash);
+
+INSERT INTO company_review_source (source_file, company_id, content_hash, load_generation)
+SELECT source_file, company_id, content_hash, load_generation
+FROM company_review
+WHERE source_file IS NOT NULL AND content_hash IS NOT NULL;
+
+DROP INDEX idx_company_review_source_file ON company_review;
+ALTER TABLE company_review DROP COLUMN source_file;
+ALTER TABLE company_review DROP COLUMN load_generation;
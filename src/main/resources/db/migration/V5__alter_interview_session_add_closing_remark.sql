@@ -0,0 +1 @@
+ALTER TABLE interview_session ADD COLUMN closing_remark TEXT;
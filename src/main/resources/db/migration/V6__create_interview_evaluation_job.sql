@@ -0,0 +1,15 @@
+CREATE TABLE interview_evaluation_job (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    interview_session_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(500),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_evaluation_job_session UNIQUE (interview_session_id)
+);
+
+CREATE INDEX idx_evaluation_job_status_next_attempt ON interview_evaluation_job (status, next_attempt_at);
@@ -0,0 +1,2 @@
+ALTER TABLE interview_session ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE interview_qa ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1 @@
+CREATE INDEX idx_company_review_company_field ON company_review (company_id, field);
@@ -0,0 +1,13 @@
+CREATE TABLE interview_question_set (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    company_id BIGINT NOT NULL,
+    field_category VARCHAR(50) NOT NULL,
+    questions TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_question_set_company FOREIGN KEY (company_id) REFERENCES company (id)
+);
+
+CREATE INDEX idx_question_set_company_category ON interview_question_set (company_id, field_category);
+
+ALTER TABLE interview_session ADD COLUMN question_set_id BIGINT NULL;
@@ -0,0 +1,76 @@
+package toock.backend.auth.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import toock.backend.auth.util.JwtUtil.VerifiedToken;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-jwt-secret-key-that-is-at-least-32-bytes";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = createJwtUtil(86_400_000L);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 회원 정보를 돌려주고 같은 토큰은 캐시에서 꺼낸다")
+    void verify_CachesVerifiedToken() {
+        // given
+        String token = jwtUtil.generateToken("user@example.com", 7L);
+
+        // when
+        Optional<VerifiedToken> first = jwtUtil.verify(token);
+        Optional<VerifiedToken> second = jwtUtil.verify(token);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().memberId()).isEqualTo(7L);
+        assertThat(first.get().email()).isEqualTo("user@example.com");
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwtVerifiedTokens").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 서명이 다른 토큰은 거부하고 캐싱하지 않는다")
+    void verify_RejectsTamperedToken() {
+        // given
+        String token = jwtUtil.generateToken("user@example.com", 7L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThat(jwtUtil.verify(tampered)).isEmpty();
+        assertThat(jwtUtil.verify(tampered)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 만료된 토큰은 거부한다")
+    void verify_RejectsExpiredToken() {
+        // given
+        JwtUtil expiredIssuer = createJwtUtil(-1_000L);
+        String token = expiredIssuer.generateToken("user@example.com", 7L);
+
+        // when & then
+        assertThat(jwtUtil.verify(token)).isEmpty();
+    }
+
+    private JwtUtil createJwtUtil(long expiration) {
+        JwtUtil util = new JwtUtil(meterRegistry);
+        ReflectionTestUtils.setField(util, "secret", SECRET);
+        ReflectionTestUtils.setField(util, "expiration", expiration);
+        util.init();
+        return util;
+    }
+}
@@ -0,0 +1,97 @@
+package toock.backend.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 CSV(기본 100만 행)로 후기 적재 처리량과 워커 수에 따른 디렉터리 적재 시간을 측정합니다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행합니다. 행 수는 -Dbenchmark.csv.rows 로 바꿀 수 있습니다.
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class CompanyReviewBatchServiceBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.csv.rows", 1_000_000);
+    private static final String HEADER = "Job Field,Job Level,Date Posted,Interview Date,Hiring Method,Interview Difficulty,"
+            + "Summary/Review,Interview Path,Interview Questions,Interview Answer/Feeling,Announcement Period,"
+            + "Interview Result,Interview Experience";
+
+    @Autowired
+    private CompanyReviewBatchService companyReviewBatchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("합성 CSV 적재 처리량 측정")
+    void loadSyntheticCsv() throws Exception {
+        File csv = writeSyntheticCsv(tempDir.resolve("벤치마크_reviews.csv"), ROWS);
+
+        long start = System.nanoTime();
+        int saved = companyReviewBatchService.loadCsvData(csv);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("[benchmark] rows=%d, elapsed=%.1fs, throughput=%.0f rows/sec%n", saved, elapsedSeconds, saved / elapsedSeconds);
+        assertThat(saved).isEqualTo(ROWS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM company_review cr JOIN company c ON c.id = cr.company_id WHERE c.name = ?", Long.class, "벤치마크")).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("디렉터리 적재 - 워커 1개와 N개 비교")
+    void compareParallelism() throws Exception {
+        int files = 8;
+        int rowsPerFile = Math.max(ROWS / 10, 1);
+        int workers = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        Path sequentialDir = Files.createDirectory(tempDir.resolve("sequential"));
+        Path parallelDir = Files.createDirectory(tempDir.resolve("parallel"));
+        for (int i = 0; i < files; i++) {
+            writeSyntheticCsv(sequentialDir.resolve("순차" + i + "_reviews.csv"), rowsPerFile);
+            writeSyntheticCsv(parallelDir.resolve("병렬" + i + "_reviews.csv"), rowsPerFile);
+        }
+
+        long start = System.nanoTime();
+        companyReviewBatchService.loadAllCsvsInDirectory(sequentialDir.toString(), 1);
+        double sequentialSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        start = System.nanoTime();
+        companyReviewBatchService.loadAllCsvsInDirectory(parallelDir.toString(), workers);
+        double parallelSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("[benchmark] files=%d, rows/file=%d, 1 worker=%.1fs, %d workers=%.1fs (x%.2f)%n",
+                files, rowsPerFile, sequentialSeconds, workers, parallelSeconds, sequentialSeconds / parallelSeconds);
+    }
+
+    private File writeSyntheticCsv(Path path, int rows) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                writer.write(String.format("개발,신입,2024. 0%d. %02d,2024/0%d,공개채용,보통,\"후기 %d\",온라인 지원,\"질문 %d\",\"답변 %d\",1주,합격,긍정적",
+                        i % 9 + 1, i % 28 + 1, i % 9 + 1, i, i, i));
+                writer.newLine();
+            }
+        }
+        return path.toFile();
+    }
+}
@@ -0,0 +1,232 @@
+package toock.backend.batch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import toock.backend.batch.domain.CsvLoadCheckpoint;
+import toock.backend.batch.repository.CsvLoadCheckpointRepository;
+import toock.backend.company.domain.Company;
+import toock.backend.company.repository.CompanyRepository;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class CompanyReviewBatchServiceTest {
+
+    private static final String HEADER = "Job Field,Job Level,Date Posted,Interview Date,Hiring Method,Interview Difficulty,"
+            + "Summary/Review,Interview Path,Interview Questions,Interview Answer/Feeling,Announcement Period,"
+            + "Interview Result,Interview Experience";
+
+    @Autowired
+    private CompanyReviewBatchService companyReviewBatchService;
+
+    @Autowired
+    private CsvLoadCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private CompanyReviewHashBackfill hashBackfill;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(companyReviewBatchService, "chunkSize", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(companyReviewBatchService, "chunkSize", 10000);
+    }
+
+    @Test
+    @DisplayName("CSV 적재 - 청크 단위로 커밋하고 완료된 파일은 다시 적재하지 않는다")
+    void loadCsvData_CommitsInChunksAndSkipsCompletedFile() throws Exception {
+        File csv = writeCsv("청크테스트_reviews.csv", 25);
+
+        int saved = companyReviewBatchService.loadCsvData(csv);
+        int savedAgain = companyReviewBatchService.loadCsvData(csv);
+
+        assertThat(saved).isEqualTo(25);
+        assertThat(savedAgain).isZero();
+        assertThat(countReviews("청크테스트")).isEqualTo(25);
+        CsvLoadCheckpoint checkpoint = checkpointRepository.findByFileName(csv.getName()).orElseThrow();
+        assertThat(checkpoint.getRowsCommitted()).isEqualTo(25);
+        assertThat(checkpoint.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV 적재 - 중단된 파일은 체크포인트 이후 행부터 이어서 적재한다")
+    void loadCsvData_ResumesFromCheckpoint() throws Exception {
+        File csv = writeCsv("재개테스트_reviews.csv", 25);
+        CsvLoadCheckpoint interrupted = CsvLoadCheckpoint.start(csv.getName(), csv.length(), sha256(csv));
+        interrupted.advance(10);
+        checkpointRepository.save(interrupted);
+
+        int saved = companyReviewBatchService.loadCsvData(csv);
+
+        assertThat(saved).isEqualTo(15);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT cr.summary FROM company_review cr JOIN company c ON c.id = cr.company_id WHERE c.name = ? ORDER BY cr.id",
+                String.class, "재개테스트"))
+                .first().isEqualTo("후기 10");
+        assertThat(checkpointRepository.findByFileName(csv.getName()).orElseThrow().getRowsCommitted()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("CSV 재적재 - 내용이 바뀐 파일은 새로 추가된 행만 저장한다")
+    void loadCsvData_ChangedFileInsertsOnlyNewRows() throws Exception {
+        File csv = writeCsv("증분테스트_reviews.csv", 20);
+        companyReviewBatchService.loadCsvData(csv);
+
+        writeCsv("증분테스트_reviews.csv", 25);
+        int saved = companyReviewBatchService.loadCsvData(csv);
+
+        assertThat(saved).isEqualTo(5);
+        assertThat(countReviews("증분테스트")).isEqualTo(25);
+        CsvLoadCheckpoint checkpoint = checkpointRepository.findByFileName(csv.getName()).orElseThrow();
+        assertThat(checkpoint.getChecksum()).isEqualTo(sha256(csv));
+        assertThat(checkpoint.getLastLoadedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("CSV 재적재 - 바뀐 파일에서 수정된 후기는 새 버전만 남고, 빠진 후기는 지워진다")
+    void loadCsvData_ChangedFileRemovesSupersededRows() throws Exception {
+        // given
+        File csv = writeCsv("수정테스트_reviews.csv", List.of("후기 0", "후기 1", "후기 2", "후기 3"));
+        companyReviewBatchService.loadCsvData(csv);
+
+        // when: 후기 1은 수정되고 후기 3은 빠짐
+        writeCsv("수정테스트_reviews.csv", List.of("후기 0", "후기 1 (수정)", "후기 2"));
+        int saved = companyReviewBatchService.loadCsvData(csv);
+
+        // then
+        assertThat(saved).isEqualTo(1);
+        assertThat(summaries("수정테스트")).containsExactlyInAnyOrder("후기 0", "후기 1 (수정)", "후기 2");
+        assertThat(checkpointRepository.findByFileName(csv.getName()).orElseThrow().getGeneration()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("CSV 재적재 - 여러 파일에 있는 후기는 한 파일에서 빠져도 남고, 어느 파일에도 없을 때만 지워진다")
+    void loadCsvData_KeepsReviewSharedWithAnotherFile() throws Exception {
+        // given: 후기 1은 두 파일 모두에 있음
+        File first = writeCsv("공유테스트_a.csv", List.of("후기 0", "후기 1"));
+        File second = writeCsv("공유테스트_b.csv", List.of("후기 1", "후기 2"));
+        companyReviewBatchService.loadCsvData(first);
+        companyReviewBatchService.loadCsvData(second);
+
+        // when: 마지막으로 적재한 파일에서 후기 1이 빠짐
+        writeCsv("공유테스트_b.csv", List.of("후기 2"));
+        companyReviewBatchService.loadCsvData(second);
+
+        // then
+        assertThat(summaries("공유테스트")).containsExactlyInAnyOrder("후기 0", "후기 1", "후기 2");
+
+        // when: 남은 파일에서도 빠짐
+        writeCsv("공유테스트_a.csv", List.of("후기 0"));
+        companyReviewBatchService.loadCsvData(first);
+
+        // then
+        assertThat(summaries("공유테스트")).containsExactlyInAnyOrder("후기 0", "후기 2");
+    }
+
+    @Test
+    @DisplayName("해시 채우기 - 해시가 없는 기존 후기에 저장된 값으로 해시를 채워, 같은 후기를 다시 적재하지 않고 중복 행은 지운다")
+    void backfill_FillsHashesOfLegacyRows() throws Exception {
+        // given: 해시 도입 전에 같은 후기가 두 번 적재된 회사
+        Company company = companyRepository.save(Company.builder().name("해시테스트").code("HASH-TEST").build());
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO company_review (company_id, field, level, created_at, interviewed_at, interview_format, "
+                            + "difficulty, summary, interview_path, interview_questions, interview_answer, announcement_period, "
+                            + "interview_result, interview_experience) "
+                            + "VALUES (?, '개발', '신입', ?, ?, '공개채용', '보통', '후기 0', '온라인 지원', '질문', '답변', '1주', '합격', '긍정적')",
+                    company.getId(), Timestamp.from(Instant.parse("2024-01-15T00:00:00Z")), Date.valueOf(LocalDate.of(2024, 1, 1)));
+        }
+
+        // when
+        long filled = hashBackfill.backfill();
+        int saved = companyReviewBatchService.loadCsvData(writeCsv("해시테스트_reviews.csv", 2));
+
+        // then
+        assertThat(filled).isEqualTo(1);
+        assertThat(saved).isEqualTo(1);
+        assertThat(summaries("해시테스트")).containsExactlyInAnyOrder("후기 0", "후기 1");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM company_review WHERE content_hash IS NULL", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("디렉터리 적재 - 같은 회사 파일을 동시에 적재해도 회사와 같은 내용의 후기는 하나만 저장된다")
+    void loadAllCsvsInDirectory_ParallelSameCompany() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            writeCsv("병렬테스트_" + i + ".csv", 15);
+        }
+
+        long saved = companyReviewBatchService.loadAllCsvsInDirectory(tempDir.toString(), 4);
+
+        assertThat(saved).isEqualTo(15);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM company WHERE name = ?", Long.class, "병렬테스트")).isEqualTo(1);
+        assertThat(countReviews("병렬테스트")).isEqualTo(15);
+    }
+
+    private long countReviews(String companyName) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM company_review cr JOIN company c ON c.id = cr.company_id WHERE c.name = ?",
+                Long.class, companyName);
+    }
+
+    private List<String> summaries(String companyName) {
+        return jdbcTemplate.queryForList(
+                "SELECT cr.summary FROM company_review cr JOIN company c ON c.id = cr.company_id WHERE c.name = ?",
+                String.class, companyName);
+    }
+
+    private String sha256(File file) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file.toPath())));
+    }
+
+    private File writeCsv(String fileName, int rows) throws IOException {
+        return writeCsv(fileName, IntStream.range(0, rows).mapToObj(i -> "후기 " + i).toList());
+    }
+
+    private File writeCsv(String fileName, List<String> summaries) throws IOException {
+        Path path = tempDir.resolve(fileName);
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (String summary : summaries) {
+                writer.write("개발,신입,2024. 01. 15,2024/01,공개채용,보통,\"" + summary + "\",온라인 지원,\"질문\",\"답변\",1주,합격,긍정적");
+                writer.newLine();
+            }
+        }
+        return path.toFile();
+    }
+}
@@ -0,0 +1,61 @@
+package toock.backend.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvDateParserTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CsvDateParser csvDateParser;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        csvDateParser = new CsvDateParser(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("작성일 파싱 - \"yyyy. MM. dd\" 형식을 UTC 자정으로 변환한다")
+    void parsePostedAt_Success() {
+        assertThat(csvDateParser.parsePostedAt("2024. 01. 15"))
+                .isEqualTo(OffsetDateTime.of(2024, 1, 15, 0, 0, 0, 0, ZoneOffset.UTC));
+        // 같은 값은 메모된 결과를 사용
+        assertThat(csvDateParser.parsePostedAt("2024. 01. 15"))
+                .isEqualTo(OffsetDateTime.of(2024, 1, 15, 0, 0, 0, 0, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("작성일 파싱 - 월의 마지막 날을 넘는 날짜는 기존 포매터처럼 마지막 날로 맞춘다")
+    void parsePostedAt_ClampsDayOfMonth() {
+        assertThat(csvDateParser.parsePostedAt("2023. 02. 30").toLocalDate()).isEqualTo(LocalDate.of(2023, 2, 28));
+    }
+
+    @Test
+    @DisplayName("면접일 파싱 - \"yyyy/MM\" 형식을 해당 월 1일로 변환한다")
+    void parseInterviewedAt_Success() {
+        assertThat(csvDateParser.parseInterviewedAt("2023/12")).isEqualTo(LocalDate.of(2023, 12, 1));
+    }
+
+    @Test
+    @DisplayName("날짜 파싱 - 형식이 맞지 않으면 null을 반환하고 거부 카운터를 올린다")
+    void parse_RejectedValues() {
+        assertThat(csvDateParser.parsePostedAt("2024-01-15")).isNull();
+        assertThat(csvDateParser.parsePostedAt("2024-01-15")).isNull();
+        assertThat(csvDateParser.parsePostedAt("2024. 13. 01")).isNull();
+        assertThat(csvDateParser.parseInterviewedAt("2023.12")).isNull();
+        assertThat(csvDateParser.parseInterviewedAt(" ")).isNull();
+
+        assertThat(meterRegistry.get("batch.company-review.date.rejected").tag("column", "posted").counter().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("batch.company-review.date.rejected").tag("column", "interview").counter().count())
+                .isEqualTo(1);
+    }
+}
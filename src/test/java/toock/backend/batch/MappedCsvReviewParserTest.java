@@ -0,0 +1,79 @@
+package toock.backend.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import toock.backend.batch.dto.CompanyReviewCsvDto;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedCsvReviewParserTest {
+
+    private static final String HEADER = "Job Field,Job Level,Date Posted,Interview Date,Hiring Method,Interview Difficulty,"
+            + "Summary/Review,Interview Path,Interview Questions,Interview Answer/Feeling,Announcement Period,"
+            + "Interview Result,Interview Experience";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("메모리 매핑 파서 - 따옴표, 이스케이프, 따옴표 안 줄바꿈을 OpenCSV와 같게 읽는다")
+    void parse_SameAsOpenCsv() throws IOException {
+        // given
+        String csv = HEADER + "\r\n"
+                + "개발,신입,2024. 01. 15,2023. 12,대면,보통,\"요약, 쉼표 포함\",온라인,\"질문1\r\n질문2\",\"그는 \"\"좋다\"\"고 했다\",1주,합격,긍정\r\n"
+                + "디자인,경력,2024. 02. 01,2024. 01,비대면,어려움,  \"앞 공백\",지인,질문 \\\"인용\\\",답변,,불합격,부정\n"
+                + "기획,신입,2024. 03. 01,2024. 02,대면,쉬움,요약,,,,,,";
+        File file = write(csv);
+
+        // when
+        List<CompanyReviewCsvDto> expected = readAll(new OpenCsvReviewParser(), file);
+        List<CompanyReviewCsvDto> actual = readAll(new MappedCsvReviewParser(), file);
+
+        // then
+        assertThat(actual).hasSize(3);
+        assertThat(actual).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(expected);
+        assertThat(actual.get(0).getInterviewQuestions()).isEqualTo("질문1\n질문2");
+        assertThat(actual.get(0).getInterviewAnswer()).isEqualTo("그는 \"좋다\"고 했다");
+        assertThat(actual.get(1).getSummary()).isEqualTo("앞 공백");
+        assertThat(actual.get(1).getInterviewQuestions()).isEqualTo("질문 \"인용\"");
+        assertThat(actual.get(2).getInterviewExperience()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("메모리 매핑 파서 - BOM과 빈 줄은 건너뛴다")
+    void parse_SkipsByteOrderMarkAndBlankLines() throws IOException {
+        // given
+        File file = write("\uFEFF" + HEADER + "\n\n개발,신입,2024. 01. 15,2023. 12,대면,보통,요약,온라인,질문,답변,1주,합격,긍정\n\n");
+
+        // when
+        List<CompanyReviewCsvDto> rows = readAll(new MappedCsvReviewParser(), file);
+
+        // then
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getField()).isEqualTo("개발");
+        assertThat(rows.get(0).getInterviewExperience()).isEqualTo("긍정");
+    }
+
+    private File write(String content) throws IOException {
+        Path path = tempDir.resolve("테스트_reviews.csv");
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+        return path.toFile();
+    }
+
+    private List<CompanyReviewCsvDto> readAll(CompanyReviewCsvParser parser, File file) throws IOException {
+        List<CompanyReviewCsvDto> rows = new ArrayList<>();
+        try (CompanyReviewCsvParser.Rows iterator = parser.open(file)) {
+            iterator.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,104 @@
+package toock.backend.company.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import toock.backend.company.domain.Company;
+import toock.backend.company.domain.CompanyReview;
+import toock.backend.company.repository.CompanyRepository;
+import toock.backend.company.service.CompanyReviewContextCache.CompanyReviewContext;
+import toock.backend.interview.domain.InterviewFieldCategory;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyReviewContextCacheTest {
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private CompanyReviewSampler companyReviewSampler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompanyReviewContextCache companyReviewContextCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        companyReviewContextCache = new CompanyReviewContextCache(companyRepository, companyReviewSampler, meterRegistry);
+        companyReviewContextCache.buildCache();
+    }
+
+    @Test
+    @DisplayName("캐시 조회 - 같은 회사/직무는 한 번만 적재하고 히트를 기록한다")
+    void get_LoadsOnceAndRecordsHit() {
+        givenCompanyWithReviews();
+
+        CompanyReviewContext first = companyReviewContextCache.get("토크", InterviewFieldCategory.DEVELOPMENT);
+        CompanyReviewContext second = companyReviewContextCache.get("토크", InterviewFieldCategory.DEVELOPMENT);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.companyId()).isEqualTo(1L);
+        assertThat(first.snippets()).containsExactly("- 난이도: 보통, 질문: [자기소개 해주세요.], 후기: N/A");
+        verify(companyRepository, times(1)).findByName("토크");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "companyReviewContext").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 초기화 - 초기화 후에는 다시 적재한다")
+    void invalidateAll_ReloadsOnNextGet() {
+        givenCompanyWithReviews();
+
+        companyReviewContextCache.get("토크", InterviewFieldCategory.DEVELOPMENT);
+        companyReviewContextCache.invalidateAll();
+        companyReviewContextCache.get("토크", InterviewFieldCategory.DEVELOPMENT);
+
+        verify(companyRepository, times(2)).findByName("토크");
+    }
+
+    @Test
+    @DisplayName("캐시 조회 - 회사가 없으면 예외를 던진다")
+    void get_ThrowsWhenCompanyMissing() {
+        given(companyRepository.findByName("없는회사")).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> companyReviewContextCache.get("없는회사", InterviewFieldCategory.DEVELOPMENT))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("회사를 찾을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("프롬프트 생성 - 요청 개수만큼만 뽑고, 후기가 없으면 안내 문구를 반환한다")
+    void toPrompt_LimitsSnippets() {
+        CompanyReviewContext context = new CompanyReviewContext(1L, List.of("a", "b", "c", "d"));
+
+        assertThat(context.toPrompt(2).split("\n")).hasSize(2);
+        assertThat(new CompanyReviewContext(1L, List.of()).toPrompt(20)).isEqualTo("이 회사에 대한 면접 데이터가 없습니다.");
+    }
+
+    private void givenCompanyWithReviews() {
+        Company company = mock(Company.class);
+        given(company.getId()).willReturn(1L);
+        CompanyReview review = CompanyReview.builder()
+                .company(company)
+                .field("개발")
+                .difficulty("보통")
+                .interviewQuestions("자기소개\n해주세요.")
+                .build();
+        given(companyRepository.findByName("토크")).willReturn(Optional.of(company));
+        given(companyReviewSampler.sample(1L, "개발", 100)).willReturn(List.of(review));
+    }
+}
@@ -0,0 +1,92 @@
+package toock.backend.company.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import toock.backend.company.domain.Company;
+import toock.backend.company.repository.CompanyRepository;
+import toock.backend.company.repository.CompanyReviewRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ORDER BY RAND() 쿼리와 CompanyReviewSampler의 샘플링 시간을 비교합니다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@Import({CompanyReviewSampler.class, SimpleMeterRegistry.class})
+class CompanyReviewSamplerBenchmarkTest {
+
+    private static final int REVIEW_COUNT = 200_000;
+    private static final int SAMPLE_SIZE = 20;
+    private static final int ITERATIONS = 50;
+    private static final String FIELD = "개발";
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private CompanyReviewRepository companyReviewRepository;
+
+    @Autowired
+    private CompanyReviewSampler companyReviewSampler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        company = companyRepository.saveAndFlush(Company.builder().name("벤치마크").code("BENCHMARK").build());
+
+        List<Object[]> rows = new ArrayList<>(REVIEW_COUNT);
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            // 절반은 다른 직무로 넣어 인덱스 선택도를 확인
+            rows.add(new Object[]{company.getId(), i % 2 == 0 ? FIELD : "데이터", "보통", "후기 " + i, "질문 " + i});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO company_review (company_id, field, difficulty, summary, interview_questions) VALUES (?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    @Test
+    @DisplayName("ORDER BY RAND() 대비 인덱스 기반 샘플링 시간 비교")
+    void compareSamplingStrategies() {
+        long orderByRandNanos = measure(() -> companyReviewRepository.findRandomByCompanyAndField(
+                company.getName(), FIELD, PageRequest.of(0, SAMPLE_SIZE)).size());
+        long samplerNanos = measure(() -> companyReviewSampler.sample(company.getId(), FIELD, SAMPLE_SIZE).size());
+
+        System.out.printf("[benchmark] reviews=%d, samples=%d, iterations=%d%n", REVIEW_COUNT, SAMPLE_SIZE, ITERATIONS);
+        System.out.printf("[benchmark] ORDER BY RAND(): %.2f ms/op%n", orderByRandNanos / 1_000_000.0 / ITERATIONS);
+        System.out.printf("[benchmark] CompanyReviewSampler: %.2f ms/op%n", samplerNanos / 1_000_000.0 / ITERATIONS);
+
+        assertThat(samplerNanos).isLessThan(orderByRandNanos);
+    }
+
+    private long measure(Supplier<Integer> sampling) {
+        // 워밍업 (샘플러는 여기서 id 목록을 적재)
+        for (int i = 0; i < 5; i++) {
+            assertThat(sampling.get()).isEqualTo(SAMPLE_SIZE);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sampling.get();
+        }
+        return System.nanoTime() - start;
+    }
+}
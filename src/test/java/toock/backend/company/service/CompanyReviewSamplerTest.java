@@ -0,0 +1,99 @@
+package toock.backend.company.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import toock.backend.company.repository.CompanyReviewRepository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyReviewSamplerTest {
+
+    @Mock
+    private CompanyReviewRepository companyReviewRepository;
+
+    private CompanyReviewSampler companyReviewSampler;
+
+    @BeforeEach
+    void setUp() {
+        companyReviewSampler = new CompanyReviewSampler(companyReviewRepository, new SimpleMeterRegistry());
+        companyReviewSampler.buildCache();
+    }
+
+    @Test
+    @DisplayName("id 선택 - 중복 없이 요청한 개수만큼 뽑는다")
+    void pickIds_ReturnsDistinctIds() {
+        long[] ids = LongStream.rangeClosed(1, 100).toArray();
+
+        List<Long> picked = CompanyReviewSampler.pickIds(ids, 20);
+
+        assertThat(picked).hasSize(20);
+        assertThat(new HashSet<>(picked)).hasSize(20);
+        assertThat(picked).allMatch(id -> id >= 1 && id <= 100);
+    }
+
+    @Test
+    @DisplayName("id 선택 - 후기가 요청 개수보다 적으면 전부 반환한다")
+    void pickIds_ReturnsAllWhenFewerThanCount() {
+        List<Long> picked = CompanyReviewSampler.pickIds(new long[]{3L, 7L, 9L}, 20);
+
+        assertThat(picked).containsExactlyInAnyOrder(3L, 7L, 9L);
+    }
+
+    @Test
+    @DisplayName("샘플링 - id 목록은 한 번만 조회하고 초기화 후 다시 조회한다")
+    void sample_LoadsIdsOncePerKey() {
+        given(companyReviewRepository.findIdsByCompanyIdAndField(1L, "개발")).willReturn(List.of(1L, 2L, 3L));
+        given(companyReviewRepository.findAllById(anyList())).willReturn(List.of());
+
+        companyReviewSampler.sample(1L, "개발", 2);
+        companyReviewSampler.sample(1L, "개발", 2);
+        companyReviewSampler.invalidateAll();
+        companyReviewSampler.sample(1L, "개발", 2);
+
+        verify(companyReviewRepository, times(2)).findIdsByCompanyIdAndField(1L, "개발");
+    }
+
+    @Test
+    @DisplayName("샘플링 - 후기가 없으면 본문을 조회하지 않는다")
+    void sample_EmptyWhenNoReviews() {
+        given(companyReviewRepository.findIdsByCompanyIdAndField(1L, "데이터")).willReturn(List.of());
+
+        assertThat(companyReviewSampler.sample(1L, "데이터", 20)).isEmpty();
+        verify(companyReviewRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("샘플링 - 유지 시간이 지난 id 목록은 다시 조회한다")
+    void sample_ReloadsIdsAfterTtl() {
+        // given: 유지 시간 0분
+        ReflectionTestUtils.setField(companyReviewSampler, "ttlMinutes", 0L);
+        companyReviewSampler.buildCache();
+        given(companyReviewRepository.findIdsByCompanyIdAndField(1L, "개발"))
+                .willReturn(List.of(1L))
+                .willReturn(List.of(1L, 2L));
+        given(companyReviewRepository.findAllById(anyList())).willReturn(List.of());
+
+        // when
+        companyReviewSampler.sample(1L, "개발", 2);
+        companyReviewSampler.sample(1L, "개발", 2);
+
+        // then
+        verify(companyReviewRepository, times(2)).findIdsByCompanyIdAndField(1L, "개발");
+    }
+}
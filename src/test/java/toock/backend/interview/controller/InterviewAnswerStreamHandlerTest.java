@@ -0,0 +1,275 @@
+package toock.backend.interview.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import reactor.core.publisher.Mono;
+import toock.backend.auth.util.JwtUtil;
+import toock.backend.global.error.ErrorCode;
+import toock.backend.infra.s3.S3Service;
+import toock.backend.interview.domain.InterviewQA;
+import toock.backend.interview.dto.InterviewDto;
+import toock.backend.interview.service.InterviewService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 실제 서버에 웹소켓으로 접속해 답변 스트리밍 엔드포인트의 인증, 메시지 순서, 실패 시 종료를 확인합니다.
+ * Whisper는 항상 같은 텍스트를 돌려주는 로컬 스텁 서버로 대신합니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class InterviewAnswerStreamHandlerTest {
+
+    private static final int SAMPLE_RATE = 16_000;
+    private static final String TRANSCRIBED_TEXT = "프로젝트 경험을 말씀드리겠습니다.";
+    private static final long MEMBER_ID = 7L;
+
+    private static final HttpServer WHISPER_SERVER = startWhisperStub();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private InterviewAnswerStreamHandler answerStreamHandler;
+
+    @MockitoBean
+    private InterviewService interviewService;
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @DynamicPropertySource
+    static void whisperApiUrl(DynamicPropertyRegistry registry) {
+        registry.add("whisper.api.url",
+                () -> "http://127.0.0.1:" + WHISPER_SERVER.getAddress().getPort() + "/v1/audio/transcriptions");
+    }
+
+    @AfterAll
+    static void stopWhisperStub() {
+        WHISPER_SERVER.stop(0);
+    }
+
+    @Test
+    @DisplayName("핸드셰이크 - 토큰이 없으면 연결을 거부한다")
+    void handshake_RejectsMissingToken() {
+        assertThatThrownBy(() -> connect("interviewSessionId=1", new RecordingHandler()))
+                .isInstanceOf(ExecutionException.class);
+        verifyNoInteractions(interviewService, s3Service);
+    }
+
+    @Test
+    @DisplayName("핸드셰이크 - 검증에 실패한 토큰은 연결을 거부한다")
+    void handshake_RejectsInvalidToken() {
+        String token = jwtUtil.generateToken("user@example.com", MEMBER_ID);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> connect("interviewSessionId=1&token=" + tampered, new RecordingHandler()))
+                .isInstanceOf(ExecutionException.class);
+        verifyNoInteractions(interviewService, s3Service);
+    }
+
+    @Test
+    @DisplayName("답변 스트리밍 - END를 보내면 FINAL(최종 답변), NEXT(다음 질문) 순서로 응답하고 정상 종료한다")
+    void stream_SendsFinalThenNextAndCloses() throws Exception {
+        // given
+        given(s3Service.uploadAudio(any(byte[].class), eq(".wav"), eq("audio/wav"), anyString())).willReturn("https://s3/answer.wav");
+        given(interviewService.nextQuestion(any(InterviewDto.NextRequest.class), eq(MEMBER_ID)))
+                .willReturn(Mono.just(new InterviewDto.NextResponse("어떤 역할을 맡았나요?", false)));
+        RecordingHandler client = new RecordingHandler();
+        WebSocketSession session = connect("interviewSessionId=1&token=" + token(), client);
+
+        // when
+        session.sendMessage(new BinaryMessage(tone(1.0)));
+        session.sendMessage(new TextMessage("{\"type\":\"END\"}"));
+        CloseStatus closeStatus = client.closed.get(10, TimeUnit.SECONDS);
+
+        // then: 부분 결과를 빼면 FINAL 다음에 NEXT가 오고 정상 종료됨
+        List<JsonNode> messages = client.messagesExcept("PARTIAL");
+        assertThat(messages).extracting(message -> message.path("type").asText()).containsExactly("FINAL", "NEXT");
+        assertThat(messages.get(0).path("text").asText()).isEqualTo(TRANSCRIBED_TEXT);
+        assertThat(messages.get(1).path("next").path("questionText").asText()).isEqualTo("어떤 역할을 맡았나요?");
+        assertThat(closeStatus.getCode()).isEqualTo(CloseStatus.NORMAL.getCode());
+
+        ArgumentCaptor<InterviewDto.NextRequest> request = ArgumentCaptor.forClass(InterviewDto.NextRequest.class);
+        verify(interviewService).nextQuestion(request.capture(), eq(MEMBER_ID));
+        assertThat(request.getValue().getInterviewSessionId()).isEqualTo(1L);
+        assertThat(request.getValue().getAnswerText()).isEqualTo(TRANSCRIBED_TEXT);
+        assertThat(request.getValue().getS3Url()).isEqualTo("https://s3/answer.wav");
+    }
+
+    @Test
+    @DisplayName("답변 스트리밍 - 다음 질문 처리가 동시 수정으로 실패하면 ERROR(INTERVIEW_CONCURRENT_UPDATE)를 보내고 서버 오류로 종료한다")
+    void stream_SendsErrorAndClosesWhenNextQuestionFails() throws Exception {
+        // given
+        given(s3Service.uploadAudio(any(byte[].class), eq(".wav"), eq("audio/wav"), anyString())).willReturn("https://s3/answer.wav");
+        given(interviewService.nextQuestion(any(InterviewDto.NextRequest.class), eq(MEMBER_ID)))
+                .willReturn(Mono.error(new ObjectOptimisticLockingFailureException(InterviewQA.class, 1L)));
+        RecordingHandler client = new RecordingHandler();
+        WebSocketSession session = connect("interviewSessionId=1&token=" + token(), client);
+
+        // when
+        session.sendMessage(new BinaryMessage(tone(1.0)));
+        session.sendMessage(new TextMessage("{\"type\":\"END\"}"));
+        CloseStatus closeStatus = client.closed.get(10, TimeUnit.SECONDS);
+
+        // then
+        List<JsonNode> messages = client.messagesExcept("PARTIAL");
+        assertThat(messages).extracting(message -> message.path("type").asText()).containsExactly("FINAL", "ERROR");
+        assertThat(messages.get(1).path("code").asText()).isEqualTo(ErrorCode.INTERVIEW_CONCURRENT_UPDATE.name());
+        assertThat(closeStatus.getCode()).isEqualTo(CloseStatus.SERVER_ERROR.getCode());
+    }
+
+    @Test
+    @DisplayName("답변 스트리밍 - 한 번에 보낼 수 있는 크기를 넘는 음성 프레임은 연결을 닫고 다음 질문을 요청하지 않는다")
+    void stream_ClosesOnOversizeFrame() throws Exception {
+        // given
+        RecordingHandler client = new RecordingHandler();
+        WebSocketSession session = connect("interviewSessionId=1&token=" + token(), client);
+
+        // when: 프레임 최대 크기(256KB)를 넘는 약 10초 분량
+        session.sendMessage(new BinaryMessage(tone(10.0)));
+        CloseStatus closeStatus = client.closed.get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(closeStatus.getCode()).isEqualTo(CloseStatus.TOO_BIG_TO_PROCESS.getCode());
+        awaitNoOpenStreams();
+        verify(interviewService, never()).nextQuestion(any(), any());
+        verifyNoInteractions(s3Service);
+    }
+
+    @Test
+    @DisplayName("답변 스트리밍 - END 전에 연결이 끊기면 변환을 취소하고 업로드나 다음 질문 요청을 하지 않는다")
+    void stream_CancelsOnDisconnectBeforeEnd() throws Exception {
+        // given
+        RecordingHandler client = new RecordingHandler();
+        WebSocketSession session = connect("interviewSessionId=1&token=" + token(), client);
+
+        // when
+        session.sendMessage(new BinaryMessage(tone(2.0)));
+        session.close(CloseStatus.GOING_AWAY);
+
+        // then
+        awaitNoOpenStreams();
+        verify(interviewService, never()).nextQuestion(any(), any());
+        verifyNoInteractions(s3Service);
+    }
+
+    private String token() {
+        return jwtUtil.generateToken("user@example.com", MEMBER_ID);
+    }
+
+    private WebSocketSession connect(String query, RecordingHandler handler) throws Exception {
+        URI uri = URI.create("ws://localhost:" + port + "/ws/interviews/answer?" + query);
+        return new StandardWebSocketClient().execute(handler, new WebSocketHttpHeaders(), uri).get(5, TimeUnit.SECONDS);
+    }
+
+    // 서버가 연결 종료를 처리해 스트림을 정리할 때까지 기다림
+    private void awaitNoOpenStreams() throws InterruptedException {
+        Map<?, ?> streams = (Map<?, ?>) ReflectionTestUtils.getField(answerStreamHandler, "streams");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!streams.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(streams).isEmpty();
+    }
+
+    // 16비트 모노 PCM 사인파
+    private static byte[] tone(double seconds) {
+        int samples = (int) (seconds * SAMPLE_RATE);
+        ByteBuffer pcm = ByteBuffer.allocate(samples * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < samples; i++) {
+            pcm.putShort((short) (3000 * Math.sin(2 * Math.PI * 440 * i / SAMPLE_RATE)));
+        }
+        return pcm.array();
+    }
+
+    private static HttpServer startWhisperStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/v1/audio/transcriptions", InterviewAnswerStreamHandlerTest::transcribe);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void transcribe(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] response = ("{\"text\":\"" + TRANSCRIBED_TEXT + "\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+    }
+
+    private class RecordingHandler extends AbstractWebSocketHandler {
+
+        private final List<JsonNode> messages = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<CloseStatus> closed = new CompletableFuture<>();
+
+        @Override
+        protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+            messages.add(objectMapper.readTree(message.getPayload()));
+        }
+
+        @Override
+        public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+            closed.complete(status);
+        }
+
+        private List<JsonNode> messagesExcept(String type) {
+            return messages.stream().filter(message -> !type.equals(message.path("type").asText())).toList();
+        }
+    }
+}
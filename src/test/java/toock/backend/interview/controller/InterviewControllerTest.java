@@ -9,18 +9,32 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+import toock.backend.auth.util.JwtUtil;
 import toock.backend.infra.s3.S3Service;
 import toock.backend.infra.whisper.service.WhisperService;
+import toock.backend.interview.domain.EvaluationJobStatus;
+import toock.backend.interview.dto.InterviewDto;
 import toock.backend.interview.dto.InterviewAnalysisResponseDto;
+import toock.backend.interview.dto.InterviewEvaluationJobResponseDto;
+import toock.backend.interview.service.InterviewEvaluationJobService;
 import toock.backend.interview.service.InterviewService;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
@@ -50,6 +64,11 @@ public class InterviewControllerTest {
         public WhisperService whisperService() {
             return mock(WhisperService.class);
         }
+
+        @Bean
+        public InterviewEvaluationJobService interviewEvaluationJobService() {
+            return mock(InterviewEvaluationJobService.class);
+        }
         
     }
 
@@ -59,40 +78,87 @@ public class InterviewControllerTest {
     private S3Service s3Service;
     @Autowired
     private WhisperService whisperService;
+    @Autowired
+    private InterviewEvaluationJobService interviewEvaluationJobService;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("면접 시작 엔드포인트 - 실제 JWT로 인증한 요청은 비동기 응답 디스패치까지 통과한다")
+    void startInterview_AsyncDispatchWithBearerToken() throws Exception {
+        // given
+        Long memberId = 7L;
+        String token = jwtUtil.generateToken("user@example.com", memberId);
+        when(interviewService.startInterview(any(InterviewDto.StartRequest.class), eq(memberId)))
+                .thenReturn(Mono.just(new InterviewDto.StartResponse(1L, "첫 질문")));
+
+        // when
+        MvcResult started = mockMvc.perform(post("/interviews/start")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"companyName\":\"테스트회사\",\"fieldCategory\":\"DEVELOPMENT\",\"field\":\"BACKEND\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.interviewSessionId").value(1L))
+                .andExpect(jsonPath("$.data.questionText").value("첫 질문"));
+    }
+
+    @Test
+    @DisplayName("다음 질문 엔드포인트 - 실제 JWT로 인증한 요청은 비동기 응답 디스패치까지 통과한다")
+    void nextQuestion_AsyncDispatchWithBearerToken() throws Exception {
+        // given
+        Long memberId = 7L;
+        String token = jwtUtil.generateToken("user@example.com", memberId);
+        MockMultipartFile audioFile = new MockMultipartFile("audioFile", "answer.webm", "audio/webm", new byte[]{1, 2, 3});
+        when(s3Service.uploadAudio(any(), anyString())).thenReturn("https://s3/answer.webm");
+        when(whisperService.transcribeAudio(any())).thenReturn("답변입니다.");
+        when(interviewService.nextQuestion(any(InterviewDto.NextRequest.class), eq(memberId)))
+                .thenReturn(Mono.just(new InterviewDto.NextResponse("다음 질문", false)));
+
+        // when
+        MvcResult started = mockMvc.perform(multipart("/interviews/next")
+                        .file(audioFile)
+                        .param("interviewSessionId", "1")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.questionText").value("다음 질문"))
+                .andExpect(jsonPath("$.data.finished").value(false));
+    }
 
     @Test
-    @DisplayName("면접 평가 엔드포인트 성공")
-    void analyzeInterview_Success() throws Exception {
+    @DisplayName("면접 평가 엔드포인트 - 평가 작업을 등록하고 202 반환")
+    void analyzeInterview_Accepted() throws Exception {
         Long sessionId = 1L;
-        InterviewAnalysisResponseDto mockResponseDto = InterviewAnalysisResponseDto.builder()
-                .id(1L)
+        InterviewEvaluationJobResponseDto jobResponseDto = InterviewEvaluationJobResponseDto.builder()
+                .jobId(10L)
                 .interviewSessionId(sessionId)
-                .score(4)
-                .technicalExpertiseScore(5)
-                .collaborationCommunicationScore(4)
-                .problemSolvingScore(4)
-                .growthPotentialScore(3)
-                .summary("좋은 요약")
+                .status(EvaluationJobStatus.PENDING)
                 .build();
 
-        when(interviewService.evaluateInterview(anyLong())).thenReturn(mockResponseDto);
+        when(interviewEvaluationJobService.enqueue(anyLong())).thenReturn(jobResponseDto);
 
         mockMvc.perform(post("/interviews/analyze/{interviewSessionId}", sessionId)
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isOk())
+                .andExpect(status().isAccepted())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.code").value("SUCCESS"))
                 .andExpect(jsonPath("$.message").value("요청에 성공하였습니다."))
-                .andExpect(jsonPath("$.data.id").value(1L))
+                .andExpect(jsonPath("$.data.jobId").value(10L))
                 .andExpect(jsonPath("$.data.interviewSessionId").value(sessionId))
-                .andExpect(jsonPath("$.data.score").value(4))
-                .andExpect(jsonPath("$.data.technicalExpertiseScore").value(5))
-                .andExpect(jsonPath("$.data.collaborationCommunicationScore").value(4))
-                .andExpect(jsonPath("$.data.problemSolvingScore").value(4))
-                .andExpect(jsonPath("$.data.growthPotentialScore").value(3))
-                .andExpect(jsonPath("$.data.summary").value("좋은 요약"));
-
-        verify(interviewService).evaluateInterview(sessionId);
+                .andExpect(jsonPath("$.data.status").value("PENDING"));
+
+        verify(interviewEvaluationJobService).enqueue(sessionId);
     }
 
     @Test
@@ -109,8 +175,15 @@ public class InterviewControllerTest {
                 .growthPotentialScore(3)
                 .summary("좋은 요약")
                 .build();
+        InterviewEvaluationJobResponseDto jobResponseDto = InterviewEvaluationJobResponseDto.builder()
+                .jobId(10L)
+                .interviewSessionId(sessionId)
+                .status(EvaluationJobStatus.DONE)
+                .attempts(1)
+                .result(mockResponseDto)
+                .build();
 
-        when(interviewService.getInterviewAnalysis(anyLong())).thenReturn(mockResponseDto);
+        when(interviewEvaluationJobService.getStatus(anyLong())).thenReturn(jobResponseDto);
 
         mockMvc.perform(get("/interviews/results/{interviewSessionId}", sessionId)
                         .contentType(MediaType.APPLICATION_JSON))
@@ -118,15 +191,16 @@ public class InterviewControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.code").value("SUCCESS"))
                 .andExpect(jsonPath("$.message").value("요청에 성공하였습니다."))
-                .andExpect(jsonPath("$.data.id").value(1L))
-                .andExpect(jsonPath("$.data.interviewSessionId").value(sessionId))
-                .andExpect(jsonPath("$.data.score").value(4))
-                .andExpect(jsonPath("$.data.technicalExpertiseScore").value(5))
-                .andExpect(jsonPath("$.data.collaborationCommunicationScore").value(4))
-                .andExpect(jsonPath("$.data.problemSolvingScore").value(4))
-                .andExpect(jsonPath("$.data.growthPotentialScore").value(3))
-                .andExpect(jsonPath("$.data.summary").value("좋은 요약"));
-
-        verify(interviewService).getInterviewAnalysis(sessionId);
+                .andExpect(jsonPath("$.data.status").value("DONE"))
+                .andExpect(jsonPath("$.data.result.id").value(1L))
+                .andExpect(jsonPath("$.data.result.interviewSessionId").value(sessionId))
+                .andExpect(jsonPath("$.data.result.score").value(4))
+                .andExpect(jsonPath("$.data.result.technicalExpertiseScore").value(5))
+                .andExpect(jsonPath("$.data.result.collaborationCommunicationScore").value(4))
+                .andExpect(jsonPath("$.data.result.problemSolvingScore").value(4))
+                .andExpect(jsonPath("$.data.result.growthPotentialScore").value(3))
+                .andExpect(jsonPath("$.data.result.summary").value("좋은 요약"));
+
+        verify(interviewEvaluationJobService).getStatus(sessionId);
     }
 }
@@ -0,0 +1,161 @@
+package toock.backend.interview.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import toock.backend.interview.domain.EvaluationJobStatus;
+import toock.backend.interview.domain.InterviewEvaluationJob;
+import toock.backend.interview.dto.InterviewEvaluationJobResponseDto;
+import toock.backend.interview.repository.InterviewAnalysisRepository;
+import toock.backend.interview.repository.InterviewEvaluationJobRepository;
+import toock.backend.interview.repository.InterviewSessionRepository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InterviewEvaluationJobServiceTest {
+
+    @InjectMocks
+    private InterviewEvaluationJobService jobService;
+
+    @Mock
+    private InterviewEvaluationJobRepository jobRepository;
+    @Mock
+    private InterviewSessionRepository interviewSessionRepository;
+    @Mock
+    private InterviewAnalysisRepository interviewAnalysisRepository;
+    @Mock
+    private InterviewService interviewService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("평가 작업 등록 - 기존 작업이 없으면 대기 상태로 저장")
+    void enqueue_CreatesPendingJob() {
+        when(interviewSessionRepository.existsById(1L)).thenReturn(true);
+        when(jobRepository.findByInterviewSessionId(1L)).thenReturn(Optional.empty());
+        when(interviewAnalysisRepository.findByInterviewSessionId(1L)).thenReturn(Optional.empty());
+        when(jobRepository.save(any(InterviewEvaluationJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        InterviewEvaluationJobResponseDto response = jobService.enqueue(1L);
+
+        assertThat(response.getInterviewSessionId()).isEqualTo(1L);
+        assertThat(response.getStatus()).isEqualTo(EvaluationJobStatus.PENDING);
+        verify(jobRepository).save(any(InterviewEvaluationJob.class));
+        verify(interviewService, never()).evaluateInterview(any());
+    }
+
+    @Test
+    @DisplayName("평가 작업 등록 - 이미 등록된 작업이 있으면 그대로 반환")
+    void enqueue_ReturnsExistingJob() {
+        InterviewEvaluationJob existing = InterviewEvaluationJob.pending(1L);
+        existing.start();
+        when(interviewSessionRepository.existsById(1L)).thenReturn(true);
+        when(jobRepository.findByInterviewSessionId(1L)).thenReturn(Optional.of(existing));
+
+        InterviewEvaluationJobResponseDto response = jobService.enqueue(1L);
+
+        assertThat(response.getStatus()).isEqualTo(EvaluationJobStatus.RUNNING);
+        assertThat(response.getAttempts()).isEqualTo(1);
+        verify(jobRepository, never()).save(any(InterviewEvaluationJob.class));
+    }
+
+    @Test
+    @DisplayName("평가 작업 등록 - 재시도까지 실패한 작업은 분석 결과가 없으면 시도 횟수를 초기화해 다시 대기 상태로 돌린다")
+    void enqueue_RetriesFailedJob() {
+        // given
+        InterviewEvaluationJob failed = InterviewEvaluationJob.pending(1L);
+        failed.start();
+        failed.fail("timeout", true, 1, OffsetDateTime.now().plusMinutes(10));
+        when(interviewSessionRepository.existsById(1L)).thenReturn(true);
+        when(jobRepository.findByInterviewSessionId(1L)).thenReturn(Optional.of(failed));
+        when(interviewAnalysisRepository.findByInterviewSessionId(1L)).thenReturn(Optional.empty());
+
+        // when
+        InterviewEvaluationJobResponseDto response = jobService.enqueue(1L);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(EvaluationJobStatus.PENDING);
+        assertThat(response.getAttempts()).isZero();
+        assertThat(failed.getNextAttemptAt()).isBeforeOrEqualTo(OffsetDateTime.now());
+        verify(jobRepository, never()).save(any(InterviewEvaluationJob.class));
+    }
+
+    @Test
+    @DisplayName("평가 작업 등록 - 세션이 없으면 예외 발생")
+    void enqueue_SessionNotFound() {
+        when(interviewSessionRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class, () -> jobService.enqueue(1L));
+        verify(jobRepository, never()).save(any(InterviewEvaluationJob.class));
+    }
+
+    @Test
+    @DisplayName("평가 진행 상태 조회 - 평가 중이면 결과 없이 상태만 반환")
+    void getStatus_Pending() {
+        when(jobRepository.findByInterviewSessionId(1L)).thenReturn(Optional.of(InterviewEvaluationJob.pending(1L)));
+        when(interviewAnalysisRepository.findByInterviewSessionId(1L)).thenReturn(Optional.empty());
+
+        InterviewEvaluationJobResponseDto response = jobService.getStatus(1L);
+
+        assertThat(response.getStatus()).isEqualTo(EvaluationJobStatus.PENDING);
+        assertThat(response.getResult()).isNull();
+        verify(interviewService, never()).getInterviewAnalysis(any());
+    }
+
+    @Test
+    @DisplayName("평가 작업 실패 - 최대 시도 횟수 전에는 재시도 대기, 이후에는 실패 처리")
+    void job_RetriesUntilMaxAttempts() {
+        InterviewEvaluationJob job = InterviewEvaluationJob.pending(1L);
+        OffsetDateTime retryAt = OffsetDateTime.now().plusSeconds(2);
+
+        job.start();
+        job.fail("timeout", true, 2, retryAt);
+        assertThat(job.getStatus()).isEqualTo(EvaluationJobStatus.PENDING);
+        assertThat(job.getNextAttemptAt()).isEqualTo(retryAt);
+
+        job.start();
+        job.fail("timeout", true, 2, retryAt);
+        assertThat(job.getStatus()).isEqualTo(EvaluationJobStatus.FAILED);
+        assertThat(job.getLastError()).isEqualTo("timeout");
+    }
+
+    @Test
+    @DisplayName("중단 작업 재등록 - 워커 제한 시간보다 오래 갱신되지 않은 실행 중 작업만 다시 대기열에 넣는다")
+    void requeueStaleJobs_OnlyStaleRunningJobs() {
+        // given
+        InterviewEvaluationJob stale = InterviewEvaluationJob.pending(1L);
+        stale.start();
+        ArgumentCaptor<OffsetDateTime> staleBefore = ArgumentCaptor.forClass(OffsetDateTime.class);
+        when(jobRepository.findByStatusAndUpdatedAtBefore(eq(EvaluationJobStatus.RUNNING), staleBefore.capture()))
+                .thenReturn(List.of(stale));
+
+        // when
+        jobService.requeueStaleJobs();
+
+        // then: 기본 300초보다 최근에 갱신된 작업은 조회 대상이 아님
+        assertThat(staleBefore.getValue()).isBefore(OffsetDateTime.now().minusSeconds(299));
+        assertThat(stale.getStatus()).isEqualTo(EvaluationJobStatus.PENDING);
+    }
+}
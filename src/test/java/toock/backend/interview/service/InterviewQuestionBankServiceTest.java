@@ -0,0 +1,167 @@
+package toock.backend.interview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import toock.backend.company.domain.Company;
+import toock.backend.company.repository.CompanyRepository;
+import toock.backend.company.service.CompanyReviewContextCache;
+import toock.backend.company.service.CompanyReviewContextCache.CompanyReviewContext;
+import toock.backend.interview.domain.InterviewFieldCategory;
+import toock.backend.interview.domain.InterviewQuestionSet;
+import toock.backend.interview.repository.InterviewQuestionSetRepository;
+import toock.backend.interview.repository.InterviewQuestionSetRepository.QuestionBankKey;
+import toock.backend.interview.service.InterviewQuestionBankService.BankedQuestions;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InterviewQuestionBankServiceTest {
+
+    @InjectMocks
+    private InterviewQuestionBankService questionBankService;
+
+    @Mock
+    private InterviewQuestionSetRepository questionSetRepository;
+    @Mock
+    private CompanyRepository companyRepository;
+    @Mock
+    private CompanyReviewContextCache companyReviewContextCache;
+    @Mock
+    private PromptService promptService;
+    @Mock
+    private GeminiService geminiService;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("질문 꺼내기 - 회원이 받지 않은 묶음이 있으면 질문 목록을 반환한다")
+    void draw_ReturnsUnusedSet() {
+        InterviewQuestionSet questionSet = mock(InterviewQuestionSet.class);
+        when(questionSet.getId()).thenReturn(3L);
+        when(questionSet.getQuestions()).thenReturn("[\"질문1\",\"질문2\",\"질문3\"]");
+        when(questionSetRepository.findUnusedByMember(eq(1L), eq(InterviewFieldCategory.DEVELOPMENT), eq(9L), any(Limit.class)))
+                .thenReturn(List.of(questionSet));
+
+        Optional<BankedQuestions> banked = questionBankService.draw(1L, InterviewFieldCategory.DEVELOPMENT, 9L);
+
+        assertThat(banked).isPresent();
+        assertThat(banked.get().questionSetId()).isEqualTo(3L);
+        assertThat(banked.get().questions()).containsExactly("질문1", "질문2", "질문3");
+        assertThat(meterRegistry.get("interview.question-bank.draws").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("질문 꺼내기 - 남은 묶음이 없으면 빈 값을 반환하고 miss를 기록한다")
+    void draw_EmptyOnMiss() {
+        when(questionSetRepository.findUnusedByMember(eq(1L), eq(InterviewFieldCategory.DATA), eq(9L), any(Limit.class)))
+                .thenReturn(List.of());
+
+        assertThat(questionBankService.draw(1L, InterviewFieldCategory.DATA, 9L)).isEmpty();
+        assertThat(meterRegistry.get("interview.question-bank.draws").tag("result", "miss").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("질문 생성 - 코드 블록으로 감싼 JSON 배열도 해석하고, 형식이 잘못되면 예외를 던진다")
+    void generateMainQuestions_ParsesResponse() {
+        when(promptService.createMainQuestionsPrompt("- 후기", "개발")).thenReturn("프롬프트");
+        when(geminiService.generateQuestion("프롬프트"))
+                .thenReturn(Mono.just("```json\n[\"질문1\",\"질문2\"]\n```"))
+                .thenReturn(Mono.just("질문을 만들 수 없습니다"));
+
+        assertThat(questionBankService.generateMainQuestions("- 후기", InterviewFieldCategory.DEVELOPMENT).block())
+                .containsExactly("질문1", "질문2");
+        assertThatThrownBy(() -> questionBankService.generateMainQuestions("- 후기", InterviewFieldCategory.DEVELOPMENT).block())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("주기적 갱신 - 최신 묶음이 목표 개수보다 적은 키만 채우고 오래된 묶음을 정리한다")
+    void refresh_FillsShortKeys() {
+        QuestionBankKey key = mock(QuestionBankKey.class);
+        when(key.getCompanyId()).thenReturn(1L);
+        when(key.getCompanyName()).thenReturn("토크");
+        when(key.getFieldCategory()).thenReturn(InterviewFieldCategory.DEVELOPMENT);
+        when(questionSetRepository.findDistinctKeys()).thenReturn(List.of(key));
+        when(questionSetRepository.countByCompany_IdAndFieldCategoryAndCreatedAtAfter(eq(1L), eq(InterviewFieldCategory.DEVELOPMENT), any()))
+                .thenReturn(3L);
+        when(companyReviewContextCache.get("토크", InterviewFieldCategory.DEVELOPMENT))
+                .thenReturn(new CompanyReviewContext(1L, List.of("- 후기")));
+        when(promptService.createMainQuestionsPrompt(anyString(), eq("개발"))).thenReturn("프롬프트");
+        when(geminiService.generateQuestion("프롬프트")).thenReturn(Mono.just("[\"질문1\"]"));
+        when(companyRepository.getReferenceById(1L)).thenReturn(mock(Company.class));
+        when(questionSetRepository.save(any(InterviewQuestionSet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        questionBankService.refill();
+
+        // 기본 목표 5개 중 3개가 있으므로 2개만 생성
+        verify(questionSetRepository, times(2)).save(any(InterviewQuestionSet.class));
+        verify(questionSetRepository).deleteCreatedBefore(any());
+    }
+
+    @Test
+    @DisplayName("주기적 갱신 - 스케줄러 스레드는 Gemini 응답을 기다리지 않고, 진행 중인 갱신이 있으면 다음 주기를 건너뛴다")
+    void refresh_HandsOffWithoutBlocking() throws InterruptedException {
+        // given: 첫 갱신이 끝나지 않도록 키 조회에서 대기
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(questionSetRepository.findDistinctKeys()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return List.of();
+        });
+        questionBankService.startRefillExecutor();
+
+        try {
+            // when
+            long startedAt = System.nanoTime();
+            questionBankService.refresh();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            questionBankService.refresh();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            // then
+            assertThat(elapsedMillis).isLessThan(5_000);
+            verify(questionSetRepository, times(1)).findDistinctKeys();
+        } finally {
+            release.countDown();
+            questionBankService.stopRefillExecutor();
+        }
+    }
+}
@@ -8,18 +8,32 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import toock.backend.interview.domain.InterviewAnalysis;
 import toock.backend.interview.domain.InterviewQA;
 import toock.backend.interview.domain.InterviewSession;
+import toock.backend.interview.dto.FollowUpDecisionResult;
+import toock.backend.interview.dto.GeminiDto;
 import toock.backend.interview.dto.InterviewAnalysisResponseDto;
+import toock.backend.interview.dto.InterviewDto;
 import toock.backend.interview.dto.InterviewEvaluationResult;
 import toock.backend.interview.repository.InterviewAnalysisRepository;
+import toock.backend.interview.repository.InterviewEvaluationJobRepository;
 import toock.backend.interview.repository.InterviewQARepository;
 import toock.backend.interview.repository.InterviewSessionRepository;
+import toock.backend.member.domain.Member;
 import toock.backend.member.repository.MemberRepository;
+import toock.backend.member.service.MemberStatisticsService;
 import toock.backend.company.repository.CompanyRepository;
-import toock.backend.company.repository.CompanyReviewRepository;
+import toock.backend.company.service.CompanyReviewContextCache;
+import toock.backend.company.service.CompanyReviewContextCache.CompanyReviewContext;
+import toock.backend.interview.domain.InterviewFieldCategory;
+import toock.backend.interview.service.InterviewQuestionBankService.BankedQuestions;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +41,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -44,7 +59,9 @@ public class InterviewServiceTest {
     @Mock
     private CompanyRepository companyRepository;
     @Mock
-    private CompanyReviewRepository companyReviewRepository;
+    private CompanyReviewContextCache companyReviewContextCache;
+    @Mock
+    private InterviewQuestionBankService questionBankService;
     @Mock
     private InterviewSessionRepository interviewSessionRepository;
     @Mock
@@ -52,11 +69,19 @@ public class InterviewServiceTest {
     @Mock
     private InterviewAnalysisRepository interviewAnalysisRepository;
     @Mock
+    private InterviewEvaluationJobRepository evaluationJobRepository;
+    @Mock
     private PromptService promptService;
     @Mock
     private GeminiService geminiService;
     @Mock
     private ObjectMapper objectMapper;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private FollowUpMetrics followUpMetrics;
+    @Mock
+    private MemberStatisticsService memberStatisticsService;
 
     private InterviewSession testSession;
     private InterviewQA testQA1;
@@ -64,6 +89,9 @@ public class InterviewServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
         testSession = mock(InterviewSession.class);
         lenient().when(testSession.getId()).thenReturn(1L);
 
@@ -90,11 +118,12 @@ public class InterviewServiceTest {
         mockResult.setSummary("좋은 요약");
 
         lenient().when(interviewSessionRepository.findById(sessionId)).thenReturn(Optional.of(testSession));
+        lenient().when(interviewSessionRepository.getReferenceById(sessionId)).thenReturn(testSession);
         lenient().when(interviewQARepository.findByInterviewSession_IdOrderByQuestionOrderAscFollowUpOrderAsc(sessionId))
                 .thenReturn(Arrays.asList(testQA1, testQA2));
         lenient().when(interviewAnalysisRepository.findByInterviewSessionId(sessionId)).thenReturn(Optional.empty());
         lenient().when(promptService.createInterviewEvaluationPrompt(anyList())).thenReturn("평가 프롬프트");
-        lenient().when(geminiService.generateQuestion(anyString())).thenReturn(geminiResponseJson);
+        lenient().when(geminiService.generateQuestion(anyString())).thenReturn(Mono.just(geminiResponseJson));
         lenient().when(objectMapper.readValue(anyString(), eq(InterviewEvaluationResult.class)))
                 .thenReturn(mockResult);
 
@@ -110,7 +139,7 @@ public class InterviewServiceTest {
 
         lenient().when(interviewAnalysisRepository.save(any(InterviewAnalysis.class))).thenReturn(savedAnalysis);
 
-        InterviewAnalysisResponseDto response = interviewService.evaluateInterview(sessionId);
+        InterviewAnalysisResponseDto response = interviewService.evaluateInterview(sessionId).block();
 
         assertThat(response.getInterviewSessionId()).isEqualTo(sessionId);
         assertThat(response.getScore()).isEqualTo(4);
@@ -127,6 +156,7 @@ public class InterviewServiceTest {
         verify(geminiService).generateQuestion(anyString());
         verify(objectMapper).readValue(anyString(), eq(InterviewEvaluationResult.class));
         verify(interviewAnalysisRepository).save(any(InterviewAnalysis.class));
+        verify(memberStatisticsService).recordAnalysis(any(InterviewAnalysis.class));
     }
 
     @Test
@@ -135,7 +165,7 @@ public class InterviewServiceTest {
         Long sessionId = 1L;
         lenient().when(interviewSessionRepository.findById(sessionId)).thenReturn(Optional.empty());
 
-        assertThrows(IllegalArgumentException.class, () -> interviewService.evaluateInterview(sessionId));
+        assertThrows(IllegalArgumentException.class, () -> interviewService.evaluateInterview(sessionId).block());
 
         verify(interviewSessionRepository).findById(sessionId);
         verify(interviewQARepository, never()).findByInterviewSession_IdOrderByQuestionOrderAscFollowUpOrderAsc(anyLong());
@@ -153,7 +183,7 @@ public class InterviewServiceTest {
         lenient().when(interviewSessionRepository.findById(sessionId)).thenReturn(Optional.of(testSession));
         lenient().when(interviewQARepository.findByInterviewSession_IdOrderByQuestionOrderAscFollowUpOrderAsc(sessionId)).thenReturn(List.of());
 
-        assertThrows(IllegalArgumentException.class, () -> interviewService.evaluateInterview(sessionId));
+        assertThrows(IllegalArgumentException.class, () -> interviewService.evaluateInterview(sessionId).block());
 
         verify(interviewSessionRepository).findById(sessionId);
         verify(interviewQARepository).findByInterviewSession_IdOrderByQuestionOrderAscFollowUpOrderAsc(sessionId);
@@ -175,11 +205,11 @@ public class InterviewServiceTest {
                 .thenReturn(Arrays.asList(testQA1, testQA2));
         lenient().when(interviewAnalysisRepository.findByInterviewSessionId(sessionId)).thenReturn(Optional.empty());
         lenient().when(promptService.createInterviewEvaluationPrompt(anyList())).thenReturn("평가 프롬프트");
-        lenient().when(geminiService.generateQuestion(anyString())).thenReturn(malformedJson);
+        lenient().when(geminiService.generateQuestion(anyString())).thenReturn(Mono.just(malformedJson));
         lenient().when(objectMapper.readValue(anyString(), eq(InterviewEvaluationResult.class)))
                 .thenThrow(new com.fasterxml.jackson.core.JsonParseException(null, "파싱 오류"));
 
-        assertThrows(IllegalStateException.class, () -> interviewService.evaluateInterview(sessionId));
+        assertThrows(IllegalStateException.class, () -> interviewService.evaluateInterview(sessionId).block());
 
         verify(interviewSessionRepository).findById(sessionId);
         verify(interviewQARepository).findByInterviewSession_IdOrderByQuestionOrderAscFollowUpOrderAsc(sessionId);
@@ -209,7 +239,7 @@ public class InterviewServiceTest {
                 .thenReturn(Arrays.asList(testQA1, testQA2));
         lenient().when(interviewAnalysisRepository.findByInterviewSessionId(sessionId)).thenReturn(Optional.of(existingAnalysis));
 
-        InterviewAnalysisResponseDto response = interviewService.evaluateInterview(sessionId);
+        InterviewAnalysisResponseDto response = interviewService.evaluateInterview(sessionId).block();
 
         assertThat(response.getId()).isEqualTo(100L);
         assertThat(response.getInterviewSessionId()).isEqualTo(sessionId);
@@ -269,4 +299,138 @@ public class InterviewServiceTest {
 
         verify(interviewAnalysisRepository).findByInterviewSessionId(sessionId);
     }
+
+    @Test
+    @DisplayName("SPECULATIVE 모드 - '다음 질문' 판정이면 동시에 생성한 꼬리질문을 버리고 다음 주요 질문을 반환")
+    void nextQuestion_Speculative_DiscardsFollowUp() {
+        ReflectionTestUtils.setField(interviewService, "followUpStrategy", FollowUpStrategy.SPECULATIVE);
+        InterviewQA currentQA = givenSessionWithUnansweredQuestion();
+        InterviewQA nextMainQA = InterviewQA.builder().interviewSession(testSession).questionOrder(2).followUpOrder(0).questionText("질문2").build();
+
+        GeminiDto.Response speculativeResponse = mock(GeminiDto.Response.class);
+        when(speculativeResponse.getTotalTokenCount()).thenReturn(120);
+        when(promptService.createAnswerEvaluationPrompt(anyList())).thenReturn("평가 프롬프트");
+        when(promptService.createFollowUpPrompt(anyList())).thenReturn("꼬리질문 프롬프트");
+        when(geminiService.generateQuestion("평가 프롬프트")).thenReturn(Mono.just("다음 질문"));
+        when(geminiService.generateContent("꼬리질문 프롬프트")).thenReturn(Mono.just(speculativeResponse));
+        when(interviewQARepository.findByInterviewSession_IdAndQuestionOrderAndFollowUpOrder(1L, 2, 0))
+                .thenReturn(Optional.of(nextMainQA));
+
+        InterviewDto.NextResponse response = interviewService.nextQuestion(nextRequest(), 1L).block();
+
+        assertThat(response.getQuestionText()).isEqualTo("질문2");
+        assertThat(response.isFinished()).isFalse();
+        assertThat(currentQA.getAnswerText()).isEqualTo("답변1");
+        verify(geminiService).generateContent("꼬리질문 프롬프트");
+        verify(followUpMetrics).recordSpeculativeDiscarded(120);
+        verify(interviewQARepository, never()).save(any(InterviewQA.class));
+    }
+
+    @Test
+    @DisplayName("SPECULATIVE 모드 - '꼬리질문 필요' 판정이면 동시에 생성한 꼬리질문을 저장하고 반환")
+    void nextQuestion_Speculative_UsesFollowUp() {
+        ReflectionTestUtils.setField(interviewService, "followUpStrategy", FollowUpStrategy.SPECULATIVE);
+        givenSessionWithUnansweredQuestion();
+
+        GeminiDto.Response speculativeResponse = mock(GeminiDto.Response.class);
+        when(speculativeResponse.getGeneratedText()).thenReturn(" 꼬리질문1 ");
+        when(promptService.createAnswerEvaluationPrompt(anyList())).thenReturn("평가 프롬프트");
+        when(promptService.createFollowUpPrompt(anyList())).thenReturn("꼬리질문 프롬프트");
+        when(geminiService.generateQuestion("평가 프롬프트")).thenReturn(Mono.just("꼬리질문 필요"));
+        when(geminiService.generateContent("꼬리질문 프롬프트")).thenReturn(Mono.just(speculativeResponse));
+        when(interviewSessionRepository.getReferenceById(1L)).thenReturn(testSession);
+
+        InterviewDto.NextResponse response = interviewService.nextQuestion(nextRequest(), 1L).block();
+
+        assertThat(response.getQuestionText()).isEqualTo("꼬리질문1");
+        assertThat(response.isFinished()).isFalse();
+        verify(interviewQARepository).save(any(InterviewQA.class));
+        verify(followUpMetrics).recordSpeculativeSaved(any(Duration.class));
+        verify(followUpMetrics, never()).recordSpeculativeDiscarded(anyInt());
+    }
+
+    @Test
+    @DisplayName("COMBINED 모드 - 한 번의 호출로 받은 판정과 꼬리질문을 사용")
+    void nextQuestion_Combined_UsesSingleCall() throws Exception {
+        ReflectionTestUtils.setField(interviewService, "followUpStrategy", FollowUpStrategy.COMBINED);
+        givenSessionWithUnansweredQuestion();
+
+        FollowUpDecisionResult decision = new FollowUpDecisionResult();
+        decision.setVerdict("꼬리질문 필요");
+        decision.setFollowUpQuestion("꼬리질문1");
+        when(promptService.createFollowUpDecisionPrompt(anyList())).thenReturn("판정 프롬프트");
+        when(geminiService.generateQuestion("판정 프롬프트")).thenReturn(Mono.just("{\"verdict\": \"꼬리질문 필요\"}"));
+        when(objectMapper.readValue(anyString(), eq(FollowUpDecisionResult.class))).thenReturn(decision);
+        when(interviewSessionRepository.getReferenceById(1L)).thenReturn(testSession);
+
+        InterviewDto.NextResponse response = interviewService.nextQuestion(nextRequest(), 1L).block();
+
+        assertThat(response.getQuestionText()).isEqualTo("꼬리질문1");
+        verify(geminiService, times(1)).generateQuestion(anyString());
+        verify(promptService, never()).createAnswerEvaluationPrompt(anyList());
+        verify(promptService, never()).createFollowUpPrompt(anyList());
+        verify(interviewQARepository).save(any(InterviewQA.class));
+    }
+
+    @Test
+    @DisplayName("면접 시작 - 질문 은행에 묶음이 있으면 Gemini를 호출하지 않는다")
+    void startInterview_UsesBankedQuestions() {
+        when(memberRepository.existsById(1L)).thenReturn(true);
+        when(companyReviewContextCache.get("토크", InterviewFieldCategory.DEVELOPMENT))
+                .thenReturn(new CompanyReviewContext(10L, List.of("- 후기")));
+        when(questionBankService.draw(10L, InterviewFieldCategory.DEVELOPMENT, 1L))
+                .thenReturn(Optional.of(new BankedQuestions(5L, List.of("질문1", "질문2", "질문3"))));
+
+        InterviewDto.StartResponse response = interviewService.startInterview(startRequest(), 1L).block();
+
+        assertThat(response.getQuestionText()).isEqualTo("질문1");
+        verify(questionBankService, never()).generateMainQuestions(anyString(), any());
+        verify(interviewQARepository, times(3)).save(any(InterviewQA.class));
+        verify(interviewSessionRepository).save(argThat(session -> Long.valueOf(5L).equals(session.getQuestionSetId())));
+    }
+
+    @Test
+    @DisplayName("면접 시작 - 질문 은행에 묶음이 없으면 생성한 질문을 은행에 적립하고 사용한다")
+    void startInterview_GeneratesAndDepositsOnMiss() {
+        List<String> generated = List.of("생성 질문1", "생성 질문2", "생성 질문3");
+        when(memberRepository.existsById(1L)).thenReturn(true);
+        when(companyReviewContextCache.get("토크", InterviewFieldCategory.DEVELOPMENT))
+                .thenReturn(new CompanyReviewContext(10L, List.of("- 후기")));
+        when(questionBankService.draw(10L, InterviewFieldCategory.DEVELOPMENT, 1L)).thenReturn(Optional.empty());
+        when(questionBankService.generateMainQuestions("- 후기", InterviewFieldCategory.DEVELOPMENT)).thenReturn(Mono.just(generated));
+        when(questionBankService.deposit(10L, InterviewFieldCategory.DEVELOPMENT, generated))
+                .thenReturn(new BankedQuestions(7L, generated));
+
+        InterviewDto.StartResponse response = interviewService.startInterview(startRequest(), 1L).block();
+
+        assertThat(response.getQuestionText()).isEqualTo("생성 질문1");
+        verify(questionBankService).deposit(10L, InterviewFieldCategory.DEVELOPMENT, generated);
+        verify(interviewSessionRepository).save(argThat(session -> Long.valueOf(7L).equals(session.getQuestionSetId())));
+    }
+
+    private InterviewDto.StartRequest startRequest() {
+        InterviewDto.StartRequest request = new InterviewDto.StartRequest();
+        request.setCompanyName("토크");
+        request.setFieldCategory(InterviewFieldCategory.DEVELOPMENT);
+        return request;
+    }
+
+    private InterviewQA givenSessionWithUnansweredQuestion() {
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(1L);
+        when(testSession.getMember()).thenReturn(member);
+        InterviewQA currentQA = InterviewQA.builder().interviewSession(testSession).questionOrder(1).followUpOrder(0).questionText("질문1").build();
+        when(interviewSessionRepository.findById(1L)).thenReturn(Optional.of(testSession));
+        when(interviewQARepository.findByInterviewSession_IdOrderByQuestionOrderAscFollowUpOrderAsc(1L))
+                .thenReturn(List.of(currentQA));
+        return currentQA;
+    }
+
+    private InterviewDto.NextRequest nextRequest() {
+        InterviewDto.NextRequest request = new InterviewDto.NextRequest();
+        request.setInterviewSessionId(1L);
+        request.setAnswerText("답변1");
+        request.setS3Url("https://s3/answer.webm");
+        return request;
+    }
 }
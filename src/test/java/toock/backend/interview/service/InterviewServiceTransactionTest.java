@@ -0,0 +1,331 @@
+package toock.backend.interview.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import toock.backend.company.domain.Company;
+import toock.backend.company.repository.CompanyRepository;
+import toock.backend.global.dto.CommonResponseDto;
+import toock.backend.global.error.ErrorCode;
+import toock.backend.global.error.GlobalExceptionHandler;
+import toock.backend.interview.domain.InterviewFieldCategory;
+import toock.backend.interview.domain.InterviewQA;
+import toock.backend.interview.domain.InterviewSession;
+import toock.backend.interview.dto.InterviewAnalysisResponseDto;
+import toock.backend.interview.dto.InterviewDto;
+import toock.backend.interview.repository.InterviewEvaluationJobRepository;
+import toock.backend.interview.repository.InterviewQARepository;
+import toock.backend.interview.repository.InterviewSessionRepository;
+import toock.backend.member.domain.Field;
+import toock.backend.member.domain.Member;
+import toock.backend.member.repository.MemberRepository;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Gemini를 호출하는 스레드에 트랜잭션이나 DB 커넥션이 묶여 있지 않은지 확인하고,
+ * 같은 세션에 대한 동시 요청이 낙관적 락으로 처리되는지 확인합니다.
+ * 평가 작업 폴링 등 스케줄 작업이 테스트 데이터를 건드리지 않도록 주기를 충분히 길게 둡니다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "interview.evaluation.poll-interval-ms=3600000",
+        "interview.evaluation.stale-check-interval-ms=3600000",
+        "interview.question-bank.refresh-interval-ms=3600000",
+        "whisper.cache.db.purge-cron=-"
+})
+class InterviewServiceTransactionTest {
+
+    private static final Duration GEMINI_LATENCY = Duration.ofMillis(500);
+
+    @Autowired
+    private InterviewService interviewService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private InterviewSessionRepository interviewSessionRepository;
+
+    @MockitoSpyBean
+    private InterviewQARepository interviewQARepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoBean
+    private GeminiService geminiService;
+
+    @Autowired
+    private InterviewEvaluationJobRepository evaluationJobRepository;
+
+    @Test
+    @DisplayName("면접 평가 - Gemini 응답 대기 중에는 DB 커넥션을 점유하지 않는다")
+    void evaluateInterview_DoesNotHoldConnectionDuringGeminiCall() {
+        // given
+        Long sessionId = givenAnsweredSession();
+        List<Boolean> boundDuringCalls = new CopyOnWriteArrayList<>();
+
+        String evaluationJson = "{\"totalScore\":80,\"technicalExpertiseScore\":20,\"collaborationCommunicationScore\":20,"
+                + "\"problemSolvingScore\":20,\"growthPotentialScore\":20,\"summary\":\"요약\",\"strengths\":\"강점\",\"improvements\":\"개선점\"}";
+        given(geminiService.generateQuestion(anyString())).willAnswer(delayedGemini(boundDuringCalls, evaluationJson));
+
+        // when
+        InterviewAnalysisResponseDto result = interviewService.evaluateInterview(sessionId).block();
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.getScore()).isEqualTo(80);
+        assertThat(boundDuringCalls).isNotEmpty().containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("면접 시작 - 질문 은행에 묶음이 없어 Gemini로 생성하는 동안 DB 커넥션을 점유하지 않는다")
+    void startInterview_DoesNotHoldConnectionDuringGeminiCall() {
+        // given
+        Member member = givenMember("start");
+        companyRepository.save(Company.builder().name("시작테스트").code("TX-START").build());
+        List<Boolean> boundDuringCalls = new CopyOnWriteArrayList<>();
+        given(geminiService.generateQuestion(anyString()))
+                .willAnswer(delayedGemini(boundDuringCalls, "[\"주요 질문 1\",\"주요 질문 2\",\"주요 질문 3\"]"));
+
+        InterviewDto.StartRequest request = new InterviewDto.StartRequest();
+        request.setCompanyName("시작테스트");
+        request.setFieldCategory(InterviewFieldCategory.DEVELOPMENT);
+        request.setField(Field.BACKEND);
+
+        // when
+        InterviewDto.StartResponse response = interviewService.startInterview(request, member.getId()).block();
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getQuestionText()).isEqualTo("주요 질문 1");
+        assertThat(boundDuringCalls).isNotEmpty().containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("다음 질문(SEQUENTIAL) - 답변 판정과 꼬리질문 생성을 기다리는 동안 DB 커넥션을 점유하지 않는다")
+    void nextQuestion_Sequential_DoesNotHoldConnectionDuringGeminiCalls() {
+        // given
+        InterviewSession session = givenInProgressSession("sequential", 0);
+        List<Boolean> boundDuringCalls = new CopyOnWriteArrayList<>();
+        given(geminiService.generateQuestion(anyString()))
+                .willAnswer(delayedGemini(boundDuringCalls, "꼬리질문 필요", "어떤 역할을 맡았나요?"));
+
+        // when
+        InterviewDto.NextResponse response = withFollowUpStrategy(FollowUpStrategy.SEQUENTIAL, () -> interviewService
+                .nextQuestion(answer(session.getId(), "프로젝트 경험을 말씀드리겠습니다."), session.getMember().getId()).block());
+
+        // then
+        assertThat(response.getQuestionText()).isEqualTo("어떤 역할을 맡았나요?");
+        assertThat(response.isFinished()).isFalse();
+        assertThat(boundDuringCalls).isNotEmpty().containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("다음 질문(COMBINED) - 판정과 꼬리질문을 한 번에 받는 동안 DB 커넥션을 점유하지 않는다")
+    void nextQuestion_Combined_DoesNotHoldConnectionDuringGeminiCall() {
+        // given
+        InterviewSession session = givenInProgressSession("combined", 0);
+        List<Boolean> boundDuringCalls = new CopyOnWriteArrayList<>();
+        given(geminiService.generateQuestion(anyString())).willAnswer(delayedGemini(boundDuringCalls,
+                "{\"verdict\":\"꼬리질문 필요\",\"followUpQuestion\":\"어떤 역할을 맡았나요?\"}"));
+
+        // when
+        InterviewDto.NextResponse response = withFollowUpStrategy(FollowUpStrategy.COMBINED, () -> interviewService
+                .nextQuestion(answer(session.getId(), "프로젝트 경험을 말씀드리겠습니다."), session.getMember().getId()).block());
+
+        // then
+        assertThat(response.getQuestionText()).isEqualTo("어떤 역할을 맡았나요?");
+        assertThat(boundDuringCalls).isNotEmpty().containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("다음 질문 - 같은 질문에 동시에 답하면 하나만 저장되고 나머지는 INTERVIEW_CONCURRENT_UPDATE(409)로 응답한다")
+    void nextQuestion_ConcurrentAnswersToSameQuestion() {
+        // given: 두 요청이 모두 답변할 질문을 읽은 뒤에 저장하도록 맞춤
+        InterviewSession session = givenInProgressSession("concurrent", 0);
+        Long sessionId = session.getId();
+        Long memberId = session.getMember().getId();
+        given(geminiService.generateQuestion(anyString())).willReturn(Mono.just("다음 질문"));
+        CyclicBarrier bothRead = new CyclicBarrier(2);
+        willAnswer(invocation -> {
+            Object qas = invocation.callRealMethod();
+            bothRead.await(5, TimeUnit.SECONDS);
+            return qas;
+        }).given(interviewQARepository).findByInterviewSession_IdOrderByQuestionOrderAscFollowUpOrderAsc(eq(sessionId));
+
+        // when
+        List<CompletableFuture<InterviewDto.NextResponse>> requests = Stream.of("첫 번째 답변", "두 번째 답변")
+                .map(answerText -> CompletableFuture.supplyAsync(() ->
+                        interviewService.nextQuestion(answer(sessionId, answerText), memberId).block()))
+                .toList();
+        List<Throwable> failures = requests.stream()
+                .map(request -> request.handle((response, error) -> error).join())
+                .filter(Objects::nonNull)
+                .map(error -> error instanceof CompletionException ? error.getCause() : error)
+                .toList();
+
+        // then
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0)).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        ResponseEntity<CommonResponseDto<Void>> errorResponse = new GlobalExceptionHandler()
+                .handleOptimisticLock((ObjectOptimisticLockingFailureException) failures.get(0));
+        assertThat(errorResponse.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(errorResponse.getBody().getCode()).isEqualTo(ErrorCode.INTERVIEW_CONCURRENT_UPDATE.name());
+        assertThat(interviewQARepository.findByInterviewSession_IdOrderByQuestionOrderAscFollowUpOrderAsc(sessionId).get(0).getAnswerText())
+                .isIn("첫 번째 답변", "두 번째 답변");
+    }
+
+    @Test
+    @DisplayName("면접 종료 - 마무리 멘트는 마지막 답변까지 포함한 전체 대화로 생성되어 세션과 함께 저장되고 평가 작업이 등록된다")
+    void nextQuestion_CompletesWithClosingRemarkFromFullConversation() {
+        // given: 마지막 주요 질문만 남은 세션
+        InterviewSession session = givenInProgressSession("closing", 2);
+        Long sessionId = session.getId();
+        given(geminiService.generateQuestion(anyString())).willAnswer(invocation -> {
+            String prompt = invocation.getArgument(0);
+            return Mono.just(prompt.contains("면접을 마무리하는") ? "마무리 멘트" : "다음 질문");
+        });
+
+        // when
+        InterviewDto.NextResponse response = interviewService.nextQuestion(answer(sessionId, "마지막 답변입니다."),
+                session.getMember().getId()).block();
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.isFinished()).isTrue();
+        assertThat(response.getQuestionText()).isEqualTo("마무리 멘트");
+        verify(geminiService).generateQuestion(argThat(prompt -> prompt.contains("면접을 마무리하는") && prompt.contains("마지막 답변입니다.")));
+        InterviewSession completed = interviewSessionRepository.findById(sessionId).orElseThrow();
+        assertThat(completed.getStatus()).isEqualTo("COMPLETED");
+        assertThat(completed.getClosingRemark()).isEqualTo("마무리 멘트");
+        assertThat(evaluationJobRepository.findByInterviewSessionId(sessionId)).isPresent();
+    }
+
+    // 스프링 빈은 프록시이므로 실제 대상 객체의 전략 필드를 바꾸고, 끝나면 원래 값으로 되돌림
+    private <T> T withFollowUpStrategy(FollowUpStrategy strategy, Supplier<T> call) {
+        Object target = AopTestUtils.getTargetObject(interviewService);
+        Object previous = ReflectionTestUtils.getField(target, "followUpStrategy");
+        ReflectionTestUtils.setField(target, "followUpStrategy", strategy);
+        try {
+            return call.get();
+        } finally {
+            ReflectionTestUtils.setField(target, "followUpStrategy", previous);
+        }
+    }
+
+    private Member givenMember(String key) {
+        return memberRepository.save(Member.builder()
+                .email("tx-" + key + "@example.com")
+                .name("테스트")
+                .username("tx-" + key)
+                .field(Field.BACKEND)
+                .build());
+    }
+
+    // 주요 질문 3개 중 앞의 answeredQuestions개에 답한 진행 중 세션
+    private InterviewSession givenInProgressSession(String key, int answeredQuestions) {
+        Member member = givenMember(key);
+        Company company = companyRepository.save(Company.builder().name("진행중-" + key).code("TX-" + key).build());
+        InterviewSession session = interviewSessionRepository.save(InterviewSession.builder()
+                .member(member)
+                .company(company)
+                .fieldCategory(InterviewFieldCategory.DEVELOPMENT)
+                .field(Field.BACKEND)
+                .status("IN_PROGRESS")
+                .startedAt(OffsetDateTime.now())
+                .build());
+
+        for (int order = 1; order <= 3; order++) {
+            InterviewQA qa = InterviewQA.builder()
+                    .interviewSession(session)
+                    .questionOrder(order)
+                    .followUpOrder(0)
+                    .questionText("주요 질문 " + order)
+                    .build();
+            if (order <= answeredQuestions) {
+                qa.updateAnswer("답변 " + order, null);
+            }
+            interviewQARepository.save(qa);
+        }
+        return session;
+    }
+
+    private static InterviewDto.NextRequest answer(Long sessionId, String answerText) {
+        InterviewDto.NextRequest request = new InterviewDto.NextRequest();
+        request.setInterviewSessionId(sessionId);
+        request.setAnswerText(answerText);
+        return request;
+    }
+
+    // 호출한 스레드에 트랜잭션이나 커넥션이 묶여 있었는지 기록하고, 지연 후 응답을 차례로 돌려주는 Gemini 스텁
+    private Answer<Mono<String>> delayedGemini(List<Boolean> boundDuringCalls, String... responses) {
+        AtomicInteger calls = new AtomicInteger();
+        return invocation -> {
+            boundDuringCalls.add(TransactionSynchronizationManager.isActualTransactionActive()
+                    || TransactionSynchronizationManager.hasResource(dataSource));
+            String response = responses[Math.min(calls.getAndIncrement(), responses.length - 1)];
+            return Mono.delay(GEMINI_LATENCY).thenReturn(response);
+        };
+    }
+
+    private Long givenAnsweredSession() {
+        Member member = givenMember("test");
+        Company company = companyRepository.save(Company.builder().name("트랜잭션테스트").code("TX-TEST").build());
+        InterviewSession session = interviewSessionRepository.save(InterviewSession.builder()
+                .member(member)
+                .company(company)
+                .fieldCategory(InterviewFieldCategory.DEVELOPMENT)
+                .field(Field.BACKEND)
+                .status("COMPLETED")
+                .startedAt(OffsetDateTime.now())
+                .completedAt(OffsetDateTime.now())
+                .build());
+
+        InterviewQA qa = InterviewQA.builder()
+                .interviewSession(session)
+                .questionOrder(1)
+                .followUpOrder(0)
+                .questionText("자기소개를 해주세요.")
+                .build();
+        qa.updateAnswer("백엔드 개발자입니다.", "https://s3.example.com/audio.mp3");
+        interviewQARepository.save(qa);
+        return session.getId();
+    }
+}
@@ -0,0 +1,211 @@
+package toock.backend.member.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import toock.backend.company.domain.Company;
+import toock.backend.interview.domain.InterviewAnalysis;
+import toock.backend.interview.domain.InterviewFieldCategory;
+import toock.backend.interview.domain.InterviewQA;
+import toock.backend.interview.domain.InterviewSession;
+import toock.backend.member.domain.Field;
+import toock.backend.member.domain.Member;
+import toock.backend.member.domain.MemberStatistics;
+import toock.backend.member.dto.InterviewHistoryDto;
+import toock.backend.member.dto.InterviewHistoryPageDto;
+import toock.backend.member.dto.MemberStatisticsResponseDto;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 면접 기록/통계 조회가 한 번의 쿼리로 끝나는지(Hibernate 통계)와 커서 페이지네이션, 통계 요약 행 갱신을 확인합니다.
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({MemberService.class, MemberStatisticsService.class})
+class MemberServiceQueryTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberStatisticsService memberStatisticsService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("면접 기록 조회 - 회사명, 점수, 질문 수를 한 번의 쿼리로 최신순 조회한다")
+    void getInterviewHistories_SingleStatement() {
+        // given
+        Member member = persist(Member.builder().email("history@example.com").name("기록").username("history").field(Field.BACKEND).build());
+        Company toss = persist(Company.builder().name("토스").code("HISTORY-TOSS").build());
+        Company kakao = persist(Company.builder().name("카카오").code("HISTORY-KAKAO").build());
+
+        InterviewSession older = persistSession(member, toss, OffsetDateTime.of(2024, 3, 1, 10, 0, 0, 0, ZoneOffset.UTC));
+        InterviewSession newer = persistSession(member, kakao, OffsetDateTime.of(2024, 3, 5, 10, 0, 0, 0, ZoneOffset.UTC));
+        for (int order = 1; order <= 3; order++) {
+            persist(InterviewQA.builder().interviewSession(older).questionOrder(order).followUpOrder(0).questionText("질문 " + order).build());
+        }
+        persist(InterviewAnalysis.builder().interviewSession(older).score(4).build());
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<InterviewHistoryDto> histories = memberService.getInterviewHistories(member.getId(), null, null, 20).getHistories();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(histories).extracting(InterviewHistoryDto::getInterviewSessionId)
+                .containsExactly(newer.getId(), older.getId());
+
+        InterviewHistoryDto latest = histories.get(0);
+        assertThat(latest.getCompanyName()).isEqualTo("카카오");
+        assertThat(latest.getScore()).isZero();
+        assertThat(latest.getQuestionCount()).isZero();
+
+        InterviewHistoryDto analyzed = histories.get(1);
+        assertThat(analyzed.getCompanyName()).isEqualTo("토스");
+        assertThat(analyzed.getScore()).isEqualTo(4);
+        assertThat(analyzed.getQuestionCount()).isEqualTo(3L);
+        assertThat(analyzed.getDate()).isEqualTo("2024-03-01");
+    }
+
+    @Test
+    @DisplayName("면접 기록 조회 - 커서로 다음 페이지를 이어서 조회하고, 시작 시각이 같으면 id로 구분한다")
+    void getInterviewHistories_KeysetPagination() {
+        // given
+        Member member = persist(Member.builder().email("paging@example.com").name("페이징").username("paging").field(Field.BACKEND).build());
+        Company company = persist(Company.builder().name("페이징회사").code("HISTORY-PAGING").build());
+        OffsetDateTime sameTime = OffsetDateTime.of(2024, 4, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        List<InterviewSession> sessions = List.of(
+                persistSession(member, company, sameTime.minusDays(1)),
+                persistSession(member, company, sameTime),
+                persistSession(member, company, sameTime),
+                persistSession(member, company, sameTime.plusDays(1)),
+                persistSession(member, company, sameTime.minusDays(2)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        InterviewHistoryPageDto first = memberService.getInterviewHistories(member.getId(), null, null, 2);
+        InterviewHistoryPageDto second = memberService.getInterviewHistories(
+                member.getId(), first.getNextCursorStartedAt(), first.getNextCursorId(), 2);
+        InterviewHistoryPageDto third = memberService.getInterviewHistories(
+                member.getId(), second.getNextCursorStartedAt(), second.getNextCursorId(), 2);
+
+        // then
+        assertThat(first.getHistories()).extracting(InterviewHistoryDto::getInterviewSessionId)
+                .containsExactly(sessions.get(3).getId(), sessions.get(2).getId());
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getHistories()).extracting(InterviewHistoryDto::getInterviewSessionId)
+                .containsExactly(sessions.get(1).getId(), sessions.get(0).getId());
+        assertThat(second.isHasNext()).isTrue();
+        assertThat(third.getHistories()).extracting(InterviewHistoryDto::getInterviewSessionId)
+                .containsExactly(sessions.get(4).getId());
+        assertThat(third.isHasNext()).isFalse();
+        assertThat(third.getNextCursorId()).isNull();
+    }
+
+    @Test
+    @DisplayName("통계 조회 - 분석 저장 시 요약 행을 누적 갱신하고, 조회는 기본 키 한 번으로 끝난다")
+    void getUserStatistics_PrimaryKeyLookup() {
+        // given
+        Member member = persist(Member.builder().email("stats@example.com").name("통계").username("stats").field(Field.BACKEND).build());
+        Company company = persist(Company.builder().name("통계회사").code("STATS").build());
+        InterviewSession thisWeek = persistSession(member, company, OffsetDateTime.now());
+        InterviewSession lastMonth = persistSession(member, company, OffsetDateTime.now().minusMonths(1));
+        persistSession(member, company, OffsetDateTime.now()); // 분석 전 면접은 집계하지 않음
+
+        // 첫 분석은 집계로 요약 행을 만들고, 이후 분석은 누적
+        memberStatisticsService.recordAnalysis(persist(InterviewAnalysis.builder().interviewSession(thisWeek).score(5).build()));
+        memberStatisticsService.recordAnalysis(persist(InterviewAnalysis.builder().interviewSession(lastMonth).score(2).build()));
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        MemberStatisticsResponseDto result = memberService.getUserStatistics(member.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(result.getTotalInterviews()).isEqualTo(2);
+        assertThat(result.getAverageScore()).isEqualTo(3.5);
+        assertThat(result.getBestScore()).isEqualTo(5);
+        assertThat(result.getInterviewsThisWeek()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("통계 재계산 - 요약 행이 없던 회원도 분석 테이블 기준으로 백필한다")
+    void rebuildAll_BackfillsFromAnalyses() {
+        // given
+        Member member = persist(Member.builder().email("rebuild@example.com").name("백필").username("rebuild").field(Field.BACKEND).build());
+        Company company = persist(Company.builder().name("백필회사").code("REBUILD").build());
+        persist(InterviewAnalysis.builder().interviewSession(persistSession(member, company, OffsetDateTime.now())).score(3).build());
+        persist(InterviewAnalysis.builder().interviewSession(persistSession(member, company, OffsetDateTime.now().minusMonths(2))).score(4).build());
+        entityManager.flush();
+
+        // when
+        memberStatisticsService.rebuildAll();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        MemberStatistics rebuilt = entityManager.find(MemberStatistics.class, member.getId());
+        assertThat(rebuilt.getTotalInterviews()).isEqualTo(2);
+        assertThat(rebuilt.getScoreSum()).isEqualTo(7);
+        assertThat(rebuilt.getBestScore()).isEqualTo(4);
+        assertThat(memberService.getUserStatistics(member.getId()).getInterviewsThisWeek()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("통계 조회 - 요약 행도 분석 결과도 없으면 0으로 채운다")
+    void getUserStatistics_NoAnalyses() {
+        // given
+        Member member = persist(Member.builder().email("empty-stats@example.com").name("빈통계").username("empty-stats").field(Field.BACKEND).build());
+
+        // when
+        MemberStatisticsResponseDto result = memberService.getUserStatistics(member.getId());
+
+        // then
+        assertThat(result.getTotalInterviews()).isZero();
+        assertThat(result.getAverageScore()).isZero();
+        assertThat(result.getBestScore()).isZero();
+        assertThat(result.getInterviewsThisWeek()).isZero();
+    }
+
+    private InterviewSession persistSession(Member member, Company company, OffsetDateTime startedAt) {
+        return persist(InterviewSession.builder()
+                .member(member)
+                .company(company)
+                .fieldCategory(InterviewFieldCategory.DEVELOPMENT)
+                .field(Field.BACKEND)
+                .status("COMPLETED")
+                .startedAt(startedAt)
+                .build());
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,126 @@
+package toock.backend.whisper.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import toock.backend.infra.whisper.domain.TranscriptionCacheEntry;
+import toock.backend.infra.whisper.dto.WhisperDto;
+import toock.backend.infra.whisper.repository.TranscriptionCacheEntryRepository;
+import toock.backend.infra.whisper.service.TranscriptionCache;
+import toock.backend.infra.whisper.service.WhisperService;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TranscriptionCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TranscriptionCacheEntryRepository repository = mock(TranscriptionCacheEntryRepository.class);
+    private final AtomicInteger apiCalls = new AtomicInteger();
+
+    private TranscriptionCache transcriptionCache;
+    private WhisperService whisperService;
+
+    @BeforeEach
+    void setUp() {
+        transcriptionCache = new TranscriptionCache(meterRegistry, repository, new ObjectMapper());
+        transcriptionCache.buildCache();
+
+        WebClient stubClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    apiCalls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"text\":\"안녕하세요\"}")
+                            .build());
+                })
+                .build();
+        whisperService = new WhisperService(stubClient, transcriptionCache);
+        ReflectionTestUtils.setField(whisperService, "openaiApiKey", "test-api-key");
+    }
+
+    @Test
+    @DisplayName("음성 해시 캐시 - 같은 음성을 다시 올리면 Whisper를 호출하지 않고 캐시된 결과를 반환한다")
+    void transcribe_SameAudioHitsCache() {
+        // given: 파일명만 다른 재업로드
+        MockMultipartFile first = new MockMultipartFile("audioFile", "answer.mp3", "audio/mpeg", new byte[]{1, 2, 3});
+        MockMultipartFile retry = new MockMultipartFile("audioFile", "answer (1).mp3", "audio/mpeg", new byte[]{1, 2, 3});
+
+        // when
+        WhisperDto.Response original = whisperService.transcribe(first, false);
+        WhisperDto.Response cached = whisperService.transcribe(retry, false);
+
+        // then
+        assertThat(apiCalls.get()).isEqualTo(1);
+        assertThat(cached.getText()).isEqualTo(original.getText());
+        assertThat(original.getLatency().isCacheHit()).isFalse();
+        assertThat(cached.getLatency().isCacheHit()).isTrue();
+        assertThat(cached.getLatency().getChunkCount()).isZero();
+        assertThat(lookups("memory")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("음성 해시 캐시 - 내용이나 응답 형식이 다르면 다시 변환한다")
+    void transcribe_DifferentAudioOrFormatMisses() {
+        // given
+        MockMultipartFile audio = new MockMultipartFile("audioFile", "answer.mp3", "audio/mpeg", new byte[]{1, 2, 3});
+        MockMultipartFile other = new MockMultipartFile("audioFile", "answer.mp3", "audio/mpeg", new byte[]{1, 2, 4});
+
+        // when
+        whisperService.transcribe(audio, false);
+        whisperService.transcribe(other, false);
+        whisperService.transcribe(audio, true);
+
+        // then
+        assertThat(apiCalls.get()).isEqualTo(3);
+        assertThat(lookups("miss")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("음성 해시 캐시 - DB 계층을 켜면 메모리에 없을 때 저장된 결과를 쓰고, 새 결과는 DB에도 저장한다")
+    void get_FallsBackToDatabase() throws Exception {
+        // given
+        ReflectionTestUtils.setField(transcriptionCache, "dbEnabled", true);
+        MockMultipartFile audio = new MockMultipartFile("audioFile", "answer.mp3", "audio/mpeg", new byte[]{9, 9, 9});
+        String key = transcriptionCache.key(audio, "json");
+        when(repository.findById(key)).thenReturn(Optional.of(TranscriptionCacheEntry.builder()
+                .cacheKey(key)
+                .response("{\"text\":\"저장된 답변\"}")
+                .build()));
+
+        // when
+        WhisperDto.Response fromDatabase = whisperService.transcribe(audio, false);
+        WhisperDto.Response fromMemory = whisperService.transcribe(audio, false);
+        whisperService.transcribe(new MockMultipartFile("audioFile", "new.mp3", "audio/mpeg", new byte[]{7}), false);
+
+        // then
+        assertThat(apiCalls.get()).isEqualTo(1);
+        assertThat(fromDatabase.getText()).isEqualTo("저장된 답변");
+        assertThat(fromMemory.getText()).isEqualTo("저장된 답변");
+        assertThat(lookups("db")).isEqualTo(1);
+        assertThat(lookups("memory")).isEqualTo(1);
+        verify(repository).save(any(TranscriptionCacheEntry.class));
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.counter("whisper.transcription.cache", "result", result).count();
+    }
+}
@@ -0,0 +1,98 @@
+package toock.backend.whisper.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import toock.backend.infra.whisper.service.WavSilenceSplitter;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WavSilenceSplitterTest {
+
+    static final int SAMPLE_RATE = 16_000;
+
+    private static final WavSilenceSplitter.Options OPTIONS = new WavSilenceSplitter.Options(1.5, 10, 0.3, 500);
+
+    @Test
+    @DisplayName("WAV 분할 - 목표 길이를 넘긴 뒤 만나는 무음 구간의 가운데에서 자른다")
+    void split_AtSilenceMiddle() {
+        // given: 소리 2초, 무음 0.5초, 소리 2초, 무음 0.5초, 소리 2초
+        byte[] wav = wav(tone(2, 3000), silence(0.5), tone(2, 3000), silence(0.5), tone(2, 3000));
+        WavSilenceSplitter.Wav header = WavSilenceSplitter.parseHeader(wav, wav.length);
+
+        // when
+        List<WavSilenceSplitter.Chunk> chunks = WavSilenceSplitter.split(wav, header, OPTIONS);
+
+        // then
+        assertThat(header.durationSeconds()).isCloseTo(7.0, within(0.001));
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks.get(1).startSeconds()).isCloseTo(2.25, within(0.02));
+        assertThat(chunks.get(2).startSeconds()).isCloseTo(4.75, within(0.02));
+        assertThat(chunks.stream().mapToInt(WavSilenceSplitter.Chunk::dataLength).sum()).isEqualTo((int) header.dataLength());
+        assertThat(chunks.get(0).dataOffset()).isEqualTo(44);
+    }
+
+    @Test
+    @DisplayName("WAV 분할 - 무음이 없으면 최대 길이에서 자르고, 목표 길이보다 짧으면 나누지 않는다")
+    void split_ForcedAtMaxLengthOrNotAtAll() {
+        // given
+        byte[] continuous = wav(tone(5, 3000));
+        byte[] shortAnswer = wav(tone(1, 3000), silence(0.5), tone(1, 3000));
+        WavSilenceSplitter.Options options = new WavSilenceSplitter.Options(1.5, 2, 0.3, 500);
+
+        // when
+        List<WavSilenceSplitter.Chunk> forced = WavSilenceSplitter.split(
+                continuous, WavSilenceSplitter.parseHeader(continuous, continuous.length), options);
+        List<WavSilenceSplitter.Chunk> single = WavSilenceSplitter.split(
+                shortAnswer, WavSilenceSplitter.parseHeader(shortAnswer, shortAnswer.length), new WavSilenceSplitter.Options(3, 10, 0.3, 500));
+
+        // then
+        assertThat(forced).extracting(WavSilenceSplitter.Chunk::startSeconds).containsExactly(0.0, 2.0, 4.0);
+        assertThat(single).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("WAV 헤더 - 16비트 PCM이 아니면 null을 반환한다")
+    void parseHeader_RejectsNonPcm16() {
+        // given
+        byte[] mp3 = {'I', 'D', '3', 4, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+        byte[] pcm8 = wav(tone(1, 3000));
+        pcm8[34] = 8; // bitsPerSample
+
+        // when & then
+        assertThat(WavSilenceSplitter.parseHeader(mp3, mp3.length)).isNull();
+        assertThat(WavSilenceSplitter.parseHeader(pcm8, pcm8.length)).isNull();
+    }
+
+    // 16kHz 모노 16비트 WAV
+    static byte[] wav(short[]... parts) {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        for (short[] part : parts) {
+            for (short sample : part) {
+                data.write(sample & 0xFF);
+                data.write((sample >> 8) & 0xFF);
+            }
+        }
+        WavSilenceSplitter.Wav format = new WavSilenceSplitter.Wav(1, SAMPLE_RATE, 2, 44, data.size());
+        ByteArrayOutputStream wav = new ByteArrayOutputStream();
+        wav.writeBytes(WavSilenceSplitter.header(format, data.size()));
+        wav.writeBytes(data.toByteArray());
+        return wav.toByteArray();
+    }
+
+    // 진폭이 일정한 구형파 (시작 표본의 절댓값으로 어느 구간인지 알아볼 수 있음)
+    static short[] tone(double seconds, int amplitude) {
+        short[] samples = new short[(int) (seconds * SAMPLE_RATE)];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) ((i / 20) % 2 == 0 ? amplitude : -amplitude);
+        }
+        return samples;
+    }
+
+    static short[] silence(double seconds) {
+        return new short[(int) (seconds * SAMPLE_RATE)];
+    }
+}
@@ -0,0 +1,137 @@
+package toock.backend.whisper.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import toock.backend.infra.whisper.service.TranscriptionCache;
+import toock.backend.infra.whisper.service.WhisperService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 임시 파일 + byte[]로 보내던 기존 업로드와 스트리밍 업로드의 호출 스레드 힙 할당량을 비교합니다.
+ * 요청 본문은 실제로 끝까지 인코딩해 소비하며, 기본 test 태스크에서는 제외되고 ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class WhisperServiceAllocationBenchmarkTest {
+
+    private static final int AUDIO_SIZE = 24 * 1024 * 1024;
+    private static final String RESPONSE = "{\"text\":\"안녕하세요\"}";
+
+    private final AtomicLong sentBytes = new AtomicLong();
+
+    @Test
+    @DisplayName("Whisper 업로드 - 스트리밍 전송은 파일 크기만큼의 힙 복사를 만들지 않는다")
+    void compareHeapAllocation() {
+        // given
+        MockMultipartFile audio = new MockMultipartFile("audioFile", "answer.mp3", "audio/mpeg", new byte[AUDIO_SIZE]);
+        WebClient webClient = consumingWebClient();
+        WhisperService whisperService = new WhisperService(webClient, mock(TranscriptionCache.class));
+        ReflectionTestUtils.setField(whisperService, "openaiApiKey", "test-api-key");
+
+        // 워밍업
+        legacyUpload(webClient, audio);
+        whisperService.transcribeAudio(audio);
+
+        // when
+        sentBytes.set(0);
+        long legacy = allocatedBytes(() -> legacyUpload(webClient, audio));
+        long legacySent = sentBytes.getAndSet(0);
+        long streaming = allocatedBytes(() -> whisperService.transcribeAudio(audio));
+        long streamingSent = sentBytes.get();
+
+        System.out.printf("📊 Whisper 업로드 %dMB: 임시 파일 + byte[] %.1fMB 할당, 스트리밍 %.1fMB 할당%n",
+                AUDIO_SIZE / (1024 * 1024), legacy / 1048576.0, streaming / 1048576.0);
+
+        // then
+        assertThat(legacySent).isGreaterThan(AUDIO_SIZE);
+        assertThat(streamingSent).isGreaterThan(AUDIO_SIZE);
+        assertThat(streaming).isLessThan(AUDIO_SIZE / 4);
+        assertThat(streaming).isLessThan(legacy / 4);
+    }
+
+    // 요청 본문을 끝까지 인코딩해 바이트 수만 세고 버퍼를 돌려준 뒤 고정 응답을 반환
+    private WebClient consumingWebClient() {
+        return WebClient.builder()
+                .exchangeFunction(request -> {
+                    MockClientHttpRequest outgoing = new MockClientHttpRequest(request.method(), request.url());
+                    outgoing.setWriteHandler(body -> body
+                            .doOnNext(buffer -> {
+                                sentBytes.addAndGet(buffer.readableByteCount());
+                                DataBufferUtils.release(buffer);
+                            })
+                            .then());
+                    return request.writeTo(outgoing, ExchangeStrategies.withDefaults())
+                            .then(Mono.fromSupplier(() -> ClientResponse.create(HttpStatus.OK)
+                                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                    .body(RESPONSE)
+                                    .build()));
+                })
+                .build();
+    }
+
+    // 변경 전 WhisperService의 전송 방식
+    private void legacyUpload(WebClient webClient, MockMultipartFile audio) {
+        try {
+            Path tempFile = Files.createTempFile("whisper-legacy", ".mp3");
+            try {
+                Files.copy(audio.getInputStream(), tempFile, StandardCopyOption.REPLACE_EXISTING);
+                byte[] audioBytes = Files.readAllBytes(tempFile);
+                ByteArrayResource audioResource = new ByteArrayResource(audioBytes) {
+                    @Override
+                    public String getFilename() {
+                        return audio.getOriginalFilename();
+                    }
+                };
+
+                MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+                body.add("file", audioResource);
+                body.add("model", "whisper-1");
+
+                webClient.post()
+                        .uri("https://api.openai.com/v1/audio/transcriptions")
+                        .contentType(MediaType.MULTIPART_FORM_DATA)
+                        .body(BodyInserters.fromMultipartData(body))
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block();
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long allocatedBytes(Runnable task) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        task.run();
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+}
@@ -0,0 +1,199 @@
+package toock.backend.whisper.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import toock.backend.infra.whisper.dto.WhisperDto;
+import toock.backend.infra.whisper.service.StreamingTranscription;
+import toock.backend.infra.whisper.service.TranscriptionCache;
+import toock.backend.infra.whisper.service.WhisperService;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static toock.backend.whisper.service.WavSilenceSplitterTest.silence;
+import static toock.backend.whisper.service.WavSilenceSplitterTest.tone;
+import static toock.backend.whisper.service.WavSilenceSplitterTest.wav;
+
+/**
+ * 로컬 스텁 변환 서버를 띄워 긴 WAV 녹음과 실시간 스트리밍 음성을 나눠 변환하고 순서대로 이어 붙이는지 확인합니다.
+ * 스텁 서버는 조각의 첫 소리 진폭으로 몇 번째 조각인지 알아내고, 앞 조각일수록 늦게 응답합니다.
+ */
+class WhisperServiceChunkingTest {
+
+    private static final int AMPLITUDE_STEP = 2000;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private WhisperService whisperService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.createContext("/v1/audio/transcriptions", this::transcribe);
+        server.start();
+
+        whisperService = new WhisperService(WebClient.create(), mock(TranscriptionCache.class));
+        ReflectionTestUtils.setField(whisperService, "openaiApiKey", "test-api-key");
+        ReflectionTestUtils.setField(whisperService, "apiUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/audio/transcriptions");
+        ReflectionTestUtils.setField(whisperService, "chunkMinDurationSeconds", 5.0);
+        ReflectionTestUtils.setField(whisperService, "chunkTargetSeconds", 1.5);
+        ReflectionTestUtils.setField(whisperService, "chunkMaxConcurrency", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("긴 WAV 녹음 - 무음 구간에서 나눠 동시에 변환하고 원래 순서대로 이어 붙인다")
+    void transcribe_ChunksLongRecording() {
+        // given: 소리-무음이 반복되는 7초 녹음 (조각 i의 진폭은 (i + 1) * 2000)
+        byte[] recording = wav(tone(2, AMPLITUDE_STEP), silence(0.5), tone(2, 2 * AMPLITUDE_STEP), silence(0.5),
+                tone(2, 3 * AMPLITUDE_STEP));
+        MockMultipartFile audio = new MockMultipartFile("audioFile", "answer.wav", "audio/wav", recording);
+
+        // when
+        WhisperDto.Response result = whisperService.transcribe(audio, false);
+
+        // then
+        assertThat(result.getText()).isEqualTo("조각0 조각1 조각2");
+        assertThat(requests.get()).isEqualTo(3);
+        assertThat(maxInFlight.get()).isEqualTo(2);
+        assertThat(result.getLatency().getChunkCount()).isEqualTo(3);
+        assertThat(result.getLatency().getChunkMillis()).hasSize(3);
+        assertThat(result.getLatency().getTotalMillis()).isGreaterThanOrEqualTo(result.getLatency().getTranscribeMillis());
+    }
+
+    @Test
+    @DisplayName("짧은 WAV 녹음 - 기준 길이보다 짧으면 나누지 않고 한 번에 보낸다")
+    void transcribe_SendsShortRecordingWhole() {
+        // given
+        byte[] recording = wav(tone(2, AMPLITUDE_STEP), silence(0.5), tone(2, 2 * AMPLITUDE_STEP));
+        MockMultipartFile audio = new MockMultipartFile("audioFile", "answer.wav", "audio/wav", recording);
+
+        // when
+        WhisperDto.Response result = whisperService.transcribe(audio, false);
+
+        // then
+        assertThat(result.getText()).isEqualTo("조각0");
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(result.getLatency().getChunkCount()).isEqualTo(1);
+        assertThat(result.getLatency().getSplitMillis()).isZero();
+    }
+
+    @Test
+    @DisplayName("실시간 스트리밍 - 말하는 동안 무음에서 확정한 구간을 미리 변환해 두고 끝나면 꼬리만 더해 최종 답변을 만든다")
+    void stream_CommitsAtSilenceWhileSpeaking() {
+        // given
+        ReflectionTestUtils.setField(whisperService, "streamPartialIntervalSeconds", 1.0);
+        ReflectionTestUtils.setField(whisperService, "streamCommitTargetSeconds", 1.5);
+        byte[] recording = wav(tone(2, AMPLITUDE_STEP), silence(0.5), tone(2, 2 * AMPLITUDE_STEP), silence(0.5),
+                tone(2, 3 * AMPLITUDE_STEP));
+        List<String> partials = new CopyOnWriteArrayList<>();
+        StreamingTranscription stream = whisperService.openStream(partials::add);
+
+        // when: 헤더를 뺀 PCM을 100ms씩 보냄
+        int frameBytes = WavSilenceSplitterTest.SAMPLE_RATE / 10 * 2;
+        for (int offset = 44; offset < recording.length; offset += frameBytes) {
+            stream.append(ByteBuffer.wrap(recording, offset, Math.min(frameBytes, recording.length - offset)));
+        }
+        String answer = stream.finish().block();
+
+        // then
+        assertThat(answer).isEqualTo("조각0 조각1 조각2");
+        assertThat(requests.get()).as("확정 구간 3개 + 부분 변환 요청").isGreaterThan(3);
+        assertThat(stream.recordingAsWav()).isEqualTo(recording);
+    }
+
+    @Test
+    @DisplayName("실시간 스트리밍 - 확정 구간 변환 요청은 스트림마다 chunkMaxConcurrency개까지만 동시에 보내고 순서대로 이어 붙인다")
+    void stream_LimitsConcurrentCommits() {
+        // given
+        ReflectionTestUtils.setField(whisperService, "chunkMaxConcurrency", 1);
+        ReflectionTestUtils.setField(whisperService, "streamPartialIntervalSeconds", 1.0);
+        ReflectionTestUtils.setField(whisperService, "streamCommitTargetSeconds", 1.5);
+        byte[] recording = wav(tone(2, AMPLITUDE_STEP), silence(0.5), tone(2, 2 * AMPLITUDE_STEP), silence(0.5),
+                tone(2, 3 * AMPLITUDE_STEP));
+        StreamingTranscription stream = whisperService.openStream(partial -> {
+        });
+
+        // when: 말하는 속도보다 빠르게 한꺼번에 보내 확정 구간이 몰리게 함
+        int frameBytes = WavSilenceSplitterTest.SAMPLE_RATE / 10 * 2;
+        for (int offset = 44; offset < recording.length; offset += frameBytes) {
+            stream.append(ByteBuffer.wrap(recording, offset, Math.min(frameBytes, recording.length - offset)));
+        }
+        String answer = stream.finish().block();
+
+        // then
+        assertThat(answer).isEqualTo("조각0 조각1 조각2");
+        assertThat(maxInFlight.get()).as("확정 구간 1개 + 부분 변환 1개").isLessThanOrEqualTo(2);
+    }
+
+    private void transcribe(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            int index = chunkIndex(exchange.getRequestBody().readAllBytes());
+            Thread.sleep((3 - index) * 150L);
+            byte[] response = ("{\"text\":\"조각" + index + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    // 멀티파트 본문에서 WAV를 찾아 첫 번째 소리 표본의 진폭으로 조각 번호를 구함
+    private static int chunkIndex(byte[] body) {
+        int riff = indexOf(body, "RIFF".getBytes(StandardCharsets.US_ASCII));
+        for (int i = riff + 44; i + 1 < body.length; i += 2) {
+            int sample = (short) ((body[i] & 0xFF) | (body[i + 1] << 8));
+            if (sample != 0) {
+                return Math.abs(sample) / AMPLITUDE_STEP - 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        outer:
+        for (int i = 0; i <= bytes.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (bytes[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        throw new IllegalStateException("요청 본문에 WAV가 없습니다.");
+    }
+}
@@ -1,14 +1,22 @@
 package toock.backend.whisper.service;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import toock.backend.global.error.ErrorCode;
+import toock.backend.infra.whisper.dto.WhisperDto;
+import toock.backend.infra.whisper.exception.WhisperException;
+import toock.backend.infra.whisper.service.TranscriptionCache;
 import toock.backend.infra.whisper.service.WhisperService;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,14 +27,12 @@ class WhisperServiceTest {
     @Mock
     private WebClient webClient;
 
+    @Mock
+    private TranscriptionCache transcriptionCache;
+
     @InjectMocks
     private WhisperService whisperService;
 
-    @BeforeEach
-    void setUp() {
-        ReflectionTestUtils.setField(whisperService, "uploadDir", "test-uploads");
-    }
-
     @Test
     void testTranscribeAudio_EmptyFile() {
         // Given
@@ -66,4 +72,62 @@ class WhisperServiceTest {
             whisperService.transcribeAudio(null);
         });
     }
+
+    @Test
+    void testTranscribeAudio_EscapedQuotesInText() {
+        // Given
+        WhisperService service = serviceRespondingWith("{\"text\":\"그는 \\\"좋다\\\"고 했다\"}");
+
+        // When
+        String transcription = service.transcribeAudio(audioFile());
+
+        // Then
+        assertEquals("그는 \"좋다\"고 했다", transcription);
+    }
+
+    @Test
+    void testTranscribeAudioWithSegments() {
+        // Given
+        WhisperService service = serviceRespondingWith("""
+                {"task":"transcribe","language":"korean","duration":3.5,"text":"안녕하세요. 반갑습니다.",
+                 "segments":[{"id":0,"seek":0,"start":0.0,"end":1.5,"text":"안녕하세요.","tokens":[1,2]},
+                             {"id":1,"seek":0,"start":1.5,"end":3.5,"text":"반갑습니다.","tokens":[3]}]}
+                """);
+
+        // When
+        WhisperDto.Response response = service.transcribeAudioWithSegments(audioFile());
+
+        // Then
+        assertEquals("안녕하세요. 반갑습니다.", response.getText());
+        assertEquals(2, response.getSegments().size());
+        assertEquals(1.5, response.getSegments().get(1).getStart());
+        assertEquals(3.5, response.getSegments().get(1).getEnd());
+        assertEquals("반갑습니다.", response.getSegments().get(1).getText());
+    }
+
+    @Test
+    void testTranscribeAudio_MissingText() {
+        // Given
+        WhisperService service = serviceRespondingWith("{\"error\":null}");
+
+        // When & Then
+        WhisperException exception = assertThrows(WhisperException.class, () -> service.transcribeAudio(audioFile()));
+        assertEquals(ErrorCode.WHISPER_RESPONSE_PARSING_FAILED, exception.getErrorCode());
+    }
+
+    private WhisperService serviceRespondingWith(String json) {
+        WebClient stubClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(json)
+                        .build()))
+                .build();
+        WhisperService service = new WhisperService(stubClient, transcriptionCache);
+        ReflectionTestUtils.setField(service, "openaiApiKey", "test-api-key");
+        return service;
+    }
+
+    private MockMultipartFile audioFile() {
+        return new MockMultipartFile("audioFile", "answer.mp3", "audio/mpeg", new byte[]{1, 2, 3});
+    }
 }